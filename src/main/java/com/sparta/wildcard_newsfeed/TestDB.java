@@ -91,7 +91,8 @@ public class TestDB {
                 for (Post post : postList) {
                     if (Math.random() < 0.5) {
                         post.setLikeCount(post.getLikeCount() + 1);
-                        Liked liked = new Liked(user, post.getId(), ContentsTypeEnum.POST);
+                        post.setLikeVersion(post.getLikeVersion() + 1);
+                        Liked liked = new Liked(user.getId(), post.getId(), ContentsTypeEnum.POST);
                         em.persist(post);
                         em.persist(liked);
                     }
@@ -139,9 +140,12 @@ public class TestDB {
                             .user(user)
                             .post(postList.get(i))
                             .likeCount(0L)
+                            .likeVersion(0L)
+                            .replyCount(0L)
                             .build();
                     comment.testDataInit();
                     commentList.add(comment);
+                    postList.get(i).setCommentCount(postList.get(i).getCommentCount() + 1);
                 }
             }
         }
@@ -0,0 +1,51 @@
+package com.sparta.wildcard_newsfeed.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * @Async 작업(타임라인 배달, 댓글 경로 backfill, 메일 발송) 전용 스레드 풀
+ * - 스케줄러 빈이 있으면 Spring Boot 가 기본 실행기를 만들지 않아 @Async 가 스케줄러 스레드를 쓰게 되므로 직접 지정
+ * - 큐가 가득 차면 호출한 스레드에서 실행 (작업을 버리지 않음)
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig implements AsyncConfigurer {
+
+    // MVC 비동기 요청(StreamingResponseBody)도 이 이름의 실행기를 사용
+    public static final String APPLICATION_TASK_EXECUTOR = "applicationTaskExecutor";
+
+    @Value("${newsfeed.async.core-pool-size:4}")
+    private int corePoolSize;
+
+    @Value("${newsfeed.async.max-pool-size:8}")
+    private int maxPoolSize;
+
+    @Value("${newsfeed.async.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Bean(name = APPLICATION_TASK_EXECUTOR)
+    public ThreadPoolTaskExecutor applicationTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("async-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return applicationTaskExecutor();
+    }
+}
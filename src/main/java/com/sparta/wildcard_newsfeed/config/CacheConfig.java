@@ -0,0 +1,76 @@
+package com.sparta.wildcard_newsfeed.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String POST_FEED_CACHE = "postFeed";
+    public static final String POST_DETAIL_CACHE = "postDetail";
+    public static final String TOP_COMMENTS_CACHE = "topComments";
+    public static final String POST_COUNT_CACHE = "postCount";
+
+    @Value("${newsfeed.cache.post-feed.max-size:1000}")
+    private long postFeedMaxSize;
+
+    @Value("${newsfeed.cache.post-feed.ttl-seconds:30}")
+    private long postFeedTtlSeconds;
+
+    @Value("${newsfeed.cache.post-detail.max-size:10000}")
+    private long postDetailMaxSize;
+
+    @Value("${newsfeed.cache.post-detail.ttl-seconds:60}")
+    private long postDetailTtlSeconds;
+
+    @Value("${newsfeed.cache.top-comments.max-size:10000}")
+    private long topCommentsMaxSize;
+
+    @Value("${newsfeed.cache.top-comments.ttl-seconds:60}")
+    private long topCommentsTtlSeconds;
+
+    @Value("${newsfeed.cache.post-count.max-size:1000}")
+    private long postCountMaxSize;
+
+    @Value("${newsfeed.cache.post-count.ttl-seconds:60}")
+    private long postCountTtlSeconds;
+
+    // recordStats: actuator 가 cache.gets(hit/miss), cache.evictions 등을 metrics 로 노출
+    @Bean
+    public CacheManager cacheManager() {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(
+                new CaffeineCache(POST_FEED_CACHE, Caffeine.newBuilder()
+                        .maximumSize(postFeedMaxSize)
+                        .expireAfterWrite(Duration.ofSeconds(postFeedTtlSeconds))
+                        .recordStats()
+                        .build()),
+                new CaffeineCache(POST_DETAIL_CACHE, Caffeine.newBuilder()
+                        .maximumSize(postDetailMaxSize)
+                        .expireAfterWrite(Duration.ofSeconds(postDetailTtlSeconds))
+                        .recordStats()
+                        .build()),
+                new CaffeineCache(TOP_COMMENTS_CACHE, Caffeine.newBuilder()
+                        .maximumSize(topCommentsMaxSize)
+                        .expireAfterWrite(Duration.ofSeconds(topCommentsTtlSeconds))
+                        .recordStats()
+                        .build()),
+                new CaffeineCache(POST_COUNT_CACHE, Caffeine.newBuilder()
+                        .maximumSize(postCountMaxSize)
+                        .expireAfterWrite(Duration.ofSeconds(postCountTtlSeconds))
+                        .recordStats()
+                        .build())
+        ));
+        return cacheManager;
+    }
+}
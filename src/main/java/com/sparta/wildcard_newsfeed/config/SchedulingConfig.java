@@ -0,0 +1,45 @@
+package com.sparta.wildcard_newsfeed.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    // 전체 테이블을 도는 보정 작업 전용 (@Scheduled(scheduler = RECONCILE_SCHEDULER))
+    public static final String RECONCILE_SCHEDULER = "reconcileScheduler";
+
+    @Value("${newsfeed.scheduling.pool-size:4}")
+    private int poolSize;
+
+    @Value("${newsfeed.scheduling.reconcile-pool-size:1}")
+    private int reconcilePoolSize;
+
+    // 좋아요 flush, 인기 게시물 갱신, 조회수 flush, 비트맵 스냅샷 등 짧은 주기 작업 - 한 작업이 늦어져도 다른 작업은 실행되도록 여러 스레드
+    @Bean
+    @Primary
+    public ThreadPoolTaskScheduler taskScheduler() {
+        return createScheduler(poolSize, "scheduling-");
+    }
+
+    // 보정 작업이 오래 걸려도 짧은 주기 작업의 스레드를 차지하지 않도록 분리
+    @Bean(name = RECONCILE_SCHEDULER)
+    public ThreadPoolTaskScheduler reconcileScheduler() {
+        return createScheduler(reconcilePoolSize, "reconcile-");
+    }
+
+    private ThreadPoolTaskScheduler createScheduler(int size, String threadNamePrefix) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(size);
+        scheduler.setThreadNamePrefix(threadNamePrefix);
+        // 종료 시 실행 중인 작업이 끝날 때까지 대기
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
@@ -1,6 +1,7 @@
 package com.sparta.wildcard_newsfeed.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.wildcard_newsfeed.domain.user.entity.UserRoleEnum;
 import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
 import com.sparta.wildcard_newsfeed.security.AuthenticationUserService;
 import com.sparta.wildcard_newsfeed.security.jwt.*;
@@ -69,6 +70,7 @@ public class WebSecurityConfig {
 
         http.authorizeHttpRequests((authorizeHttpRequests) -> authorizeHttpRequests
                 .requestMatchers(SWAGGER_PATTERNS).permitAll()
+                .requestMatchers("/api/v1/admin/**").hasRole(UserRoleEnum.ADMIN.getRoleValue())
                 .requestMatchers(HttpMethod.POST, "/api/v1/auth/reissue").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/v1/user/signup").permitAll()
                 .requestMatchers(HttpMethod.GET, "/api/v1/user/**").permitAll()
@@ -0,0 +1,52 @@
+package com.sparta.wildcard_newsfeed.domain.comment.controller;
+
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentCursorPageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.service.CommentService;
+import com.sparta.wildcard_newsfeed.domain.common.CommonResponseDto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/comment")
+@Tag(name = "Admin Comment 컨트롤러", description = "관리자 Comment API")
+public class AdminCommentController {
+
+    private final CommentService commentService;
+
+    // 최신 댓글 피드 (작성일시, ID 역순 커서 페이징, 게시물/작성자 필터 선택)
+    @GetMapping
+    @Operation(summary = "최신 댓글 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "최신 댓글 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CommonResponseDto.class)))
+    })
+    public ResponseEntity<CommonResponseDto<CommentCursorPageResponseDto>> getLatestComments(
+            @RequestParam(name = "postId", required = false) Long postId,
+            @RequestParam(name = "userId", required = false) Long userId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "50") int size
+    ) {
+        CommentCursorPageResponseDto commentPage = commentService.getLatestComments(postId, userId, cursor, size);
+        return ResponseEntity.ok()
+                .body(CommonResponseDto.<CommentCursorPageResponseDto>builder()
+                        .statusCode(HttpStatus.OK.value())
+                        .message("최신 댓글 조회 성공")
+                        .data(commentPage)
+                        .build());
+    }
+}
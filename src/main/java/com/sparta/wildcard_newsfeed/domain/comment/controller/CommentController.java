@@ -1,7 +1,9 @@
 package com.sparta.wildcard_newsfeed.domain.comment.controller;
 
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentCursorPageResponseDto;
 import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentRequestDto;
 import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentThreadPageResponseDto;
 import com.sparta.wildcard_newsfeed.domain.comment.service.CommentService;
 import com.sparta.wildcard_newsfeed.domain.common.CommonResponseDto;
 import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
@@ -28,6 +30,96 @@ public class CommentController {
 
     private final CommentService commentService;
 
+    // 댓글 목록 (작성일시, ID 순 커서 페이징)
+    @GetMapping
+    @Operation(summary = "댓글 목록 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "댓글 목록 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CommonResponseDto.class)))
+    })
+    public ResponseEntity<CommonResponseDto<CommentCursorPageResponseDto>> getComments(
+            @PathVariable(name = "postId") long postId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        CommentCursorPageResponseDto commentPage = commentService.getCommentPage(postId, cursor, size);
+        return ResponseEntity.ok()
+                .body(CommonResponseDto.<CommentCursorPageResponseDto>builder()
+                        .statusCode(HttpStatus.OK.value())
+                        .message("댓글 목록 조회 성공")
+                        .data(commentPage)
+                        .build());
+    }
+
+    // 댓글 스레드 목록 (최상위 댓글 단위 페이징, 답글 포함 트리 순서)
+    @GetMapping("/threads")
+    @Operation(summary = "댓글 스레드 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "댓글 스레드 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CommonResponseDto.class)))
+    })
+    public ResponseEntity<CommonResponseDto<CommentThreadPageResponseDto>> getCommentThreads(
+            @PathVariable(name = "postId") long postId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        CommentThreadPageResponseDto threadPage = commentService.getCommentThreads(postId, cursor, size);
+        return ResponseEntity.ok()
+                .body(CommonResponseDto.<CommentThreadPageResponseDto>builder()
+                        .statusCode(HttpStatus.OK.value())
+                        .message("댓글 스레드 조회 성공")
+                        .data(threadPage)
+                        .build());
+    }
+
+    // 한 댓글의 답글 (하위 트리 전체, 트리 순서)
+    @GetMapping("{commentId}/replies")
+    @Operation(summary = "답글 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "답글 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CommonResponseDto.class)))
+    })
+    public ResponseEntity<CommonResponseDto<CommentCursorPageResponseDto>> getReplies(
+            @PathVariable(name = "postId") long postId,
+            @PathVariable(name = "commentId") long commentId,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "20") int size
+    ) {
+        CommentCursorPageResponseDto replyPage = commentService.getReplies(postId, commentId, cursor, size);
+        return ResponseEntity.ok()
+                .body(CommonResponseDto.<CommentCursorPageResponseDto>builder()
+                        .statusCode(HttpStatus.OK.value())
+                        .message("답글 조회 성공")
+                        .data(replyPage)
+                        .build());
+    }
+
+    // 답글 추가
+    @PostMapping("{commentId}/reply")
+    @Operation(summary = "답글 등록")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "답글 등록 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CommonResponseDto.class)))
+    })
+    public ResponseEntity<CommonResponseDto<CommentResponseDto>> addReply(
+            @AuthenticationPrincipal AuthenticationUser user,
+            @PathVariable(name = "postId") long postId,
+            @PathVariable(name = "commentId") long commentId,
+            @Valid @RequestBody CommentRequestDto commentRequestDto
+    ) {
+        CommentResponseDto commentResponseDto = commentService.addReply(postId, commentId, commentRequestDto, user);
+        return ResponseEntity.ok()
+                .body(CommonResponseDto.<CommentResponseDto>builder()
+                        .statusCode(HttpStatus.OK.value())
+                        .message("답글 등록 성공")
+                        .data(commentResponseDto)
+                        .build());
+    }
+
     // 댓글 추가
     @PostMapping
     @Operation(summary = "댓글 등록")
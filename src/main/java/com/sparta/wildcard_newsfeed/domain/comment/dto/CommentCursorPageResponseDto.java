@@ -0,0 +1,30 @@
+package com.sparta.wildcard_newsfeed.domain.comment.dto;
+
+import com.sparta.wildcard_newsfeed.domain.comment.entity.Comment;
+import com.sparta.wildcard_newsfeed.util.CursorUtils;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CommentCursorPageResponseDto {
+    private List<CommentResponseDto> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // 마지막 페이지면 null
+
+    // size + 1 건 조회한 결과로 다음 페이지 여부 판단, 커서는 마지막 댓글의 (작성일시, ID)
+    public static CommentCursorPageResponseDto of(List<Comment> comments, int size) {
+        boolean hasNext = comments.size() > size;
+        List<Comment> page = hasNext ? comments.subList(0, size) : comments;
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = page.get(page.size() - 1);
+            nextCursor = CursorUtils.encode(last.getCreatedAt(), last.getId());
+        }
+        return new CommentCursorPageResponseDto(
+                page.stream().map(CommentResponseDto::new).toList(), page.size(), hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,20 @@
+package com.sparta.wildcard_newsfeed.domain.comment.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@Builder
+public class CommentDeletedEvent {
+    private Long postId;
+    private Long commentId;
+
+    public static CommentDeletedEvent of(Long postId, Long commentId) {
+        return CommentDeletedEvent.builder()
+                .postId(postId)
+                .commentId(commentId)
+                .build();
+    }
+}
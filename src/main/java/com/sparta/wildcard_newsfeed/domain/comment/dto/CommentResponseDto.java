@@ -1,6 +1,7 @@
 package com.sparta.wildcard_newsfeed.domain.comment.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.sparta.wildcard_newsfeed.domain.comment.entity.Comment;
 import lombok.Getter;
 
@@ -18,6 +19,11 @@ public class CommentResponseDto {
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime updatedAt;
     private Long likeCount;
+    private Long parentId; // 최상위 댓글이면 null
+    private int depth;
+    private Long replyCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean likedByMe; // 로그인한 사용자에게만 포함
 
     public CommentResponseDto(Comment comment) {
         this.id = comment.getId();
@@ -27,5 +33,27 @@ public class CommentResponseDto {
         this.createdAt = comment.getCreatedAt();
         this.updatedAt = comment.getUpdatedAt();
         this.likeCount = comment.getLikeCount();
+        this.parentId = comment.getParentId();
+        this.depth = comment.getDepth();
+        this.replyCount = comment.getReplyCount();
+    }
+
+    private CommentResponseDto(CommentResponseDto source, boolean likedByMe) {
+        this.postId = source.postId;
+        this.id = source.id;
+        this.content = source.content;
+        this.username = source.username;
+        this.createdAt = source.createdAt;
+        this.updatedAt = source.updatedAt;
+        this.likeCount = source.likeCount;
+        this.parentId = source.parentId;
+        this.depth = source.depth;
+        this.replyCount = source.replyCount;
+        this.likedByMe = likedByMe;
+    }
+
+    // 캐시된 응답은 여러 사용자가 공유하므로 복사해서 사용자별 값을 채움
+    public CommentResponseDto withLikedByMe(boolean likedByMe) {
+        return new CommentResponseDto(this, likedByMe);
     }
 }
\ No newline at end of file
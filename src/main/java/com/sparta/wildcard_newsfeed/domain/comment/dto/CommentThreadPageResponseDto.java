@@ -0,0 +1,17 @@
+package com.sparta.wildcard_newsfeed.domain.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class CommentThreadPageResponseDto {
+    private List<CommentResponseDto> content; // 최상위 댓글과 답글을 트리 순서(깊이 우선)로, depth/parentId 로 구분
+    private int threadCount; // 이 페이지의 최상위 댓글 수
+    private boolean hasNext;
+    private String nextCursor; // 마지막 페이지면 null
+    private Map<Long, String> replyCursors; // 답글이 잘린 스레드의 최상위 댓글 ID -> getReplies 에 넘길 커서
+}
@@ -0,0 +1,20 @@
+package com.sparta.wildcard_newsfeed.domain.comment.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@Builder
+public class CommentUpdatedEvent {
+    private Long postId;
+    private Long commentId;
+
+    public static CommentUpdatedEvent of(Long postId, Long commentId) {
+        return CommentUpdatedEvent.builder()
+                .postId(postId)
+                .commentId(commentId)
+                .build();
+    }
+}
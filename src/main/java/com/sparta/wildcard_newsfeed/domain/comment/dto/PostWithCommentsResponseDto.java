@@ -11,9 +11,28 @@ import java.util.List;
 public class PostWithCommentsResponseDto {
     private PostResponseDto post;
     private List<CommentResponseDto> comments;
+    private boolean hasMoreComments;
+    private String nextCommentCursor; // 다음 댓글 페이지 커서 (GET /api/v1/post/{postId}/comment?cursor=), 마지막이면 null
 
     public PostWithCommentsResponseDto(PostResponseDto post, List<CommentResponseDto> comments) {
         this.post = post;
         this.comments = comments;
     }
+
+    public PostWithCommentsResponseDto(PostResponseDto post, List<CommentResponseDto> comments, boolean hasMoreComments) {
+        this.post = post;
+        this.comments = comments;
+        this.hasMoreComments = hasMoreComments;
+    }
+
+    public PostWithCommentsResponseDto(PostResponseDto post, CommentCursorPageResponseDto commentPage) {
+        this(post, commentPage.getContent(), commentPage.isHasNext(), commentPage.getNextCursor());
+    }
+
+    public PostWithCommentsResponseDto(PostResponseDto post, List<CommentResponseDto> comments, boolean hasMoreComments, String nextCommentCursor) {
+        this.post = post;
+        this.comments = comments;
+        this.hasMoreComments = hasMoreComments;
+        this.nextCommentCursor = nextCommentCursor;
+    }
 }
\ No newline at end of file
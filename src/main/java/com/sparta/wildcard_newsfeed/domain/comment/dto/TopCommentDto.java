@@ -0,0 +1,16 @@
+package com.sparta.wildcard_newsfeed.domain.comment.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+// 피드 카드의 댓글 미리보기 - 네이티브 쿼리 결과를 인터페이스로 받음
+public interface TopCommentDto {
+    Long getPostId();
+    Long getId();
+    String getContent();
+    String getUsername();
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    LocalDateTime getCreatedAt();
+    Long getLikeCount();
+}
@@ -5,12 +5,30 @@ import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
 import com.sparta.wildcard_newsfeed.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 @Getter
 @Entity
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
+// post_id 로 시작하는 인덱스가 여럿이지만 두 번째 컬럼이 달라서 서로 대신할 수 없음
+// - depth 가 가운데 있으면 depth 를 거르지 않는 조회(하위 트리, 관리자 피드)의 범위/정렬에 못 씀
+// - depth 가 없으면 depth = 0 조회가 답글까지 읽고 버려야 해서 답글이 많은 게시물에서 한 페이지에서 멈추지 못함
+@Table(indexes = {
+        // findFirstPageByPostId / findNextPageByPostId (게시물 상세, 최상위 댓글 목록) - depth = 0 을 (작성일시, ID) 순으로
+        @Index(name = "idx_comment_post_created", columnList = "post_id, depth, created_at, id"),
+        // findRootPaths (스레드 단위 페이징) - depth = 0 을 경로 순으로
+        @Index(name = "idx_comment_post_depth_path", columnList = "post_id, depth, path"),
+        // findByPathRange / findThreadCommentIds / deleteSubtree - 모든 깊이를 경로 범위 한 번으로
+        @Index(name = "idx_comment_post_path", columnList = "post_id, path"),
+        // findLatest(Before) / findLatestByPostId(Before) / findLatestByUserId(Before) (관리자 최신 댓글 피드) - 모든 깊이를 역순으로 한 페이지만
+        @Index(name = "idx_comment_created", columnList = "created_at, id"),
+        @Index(name = "idx_comment_post_latest", columnList = "post_id, created_at, id"),
+        @Index(name = "idx_comment_user_latest", columnList = "user_id, created_at, id"),
+        // findTopCommentsByPostIds (좋아요 많은 댓글 미리보기) - 순위 계산을 인덱스만으로
+        @Index(name = "idx_comment_post_like", columnList = "post_id, depth, like_count")
+})
 public class Comment extends TimeStampEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -30,11 +48,67 @@ public class Comment extends TimeStampEntity {
     @Setter
     private Long likeCount;
 
+    // 좋아요 변경 버전 - liked 행이 추가/삭제될 때마다 증가 (좋아요 사용자 비트맵 스냅샷 검증)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long likeVersion;
+
+    // 부모 댓글 ID (최상위 댓글이면 null)
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    // 스레드의 최상위 댓글 ID (최상위 댓글이면 자기 자신)
+    @Column(name = "root_id")
+    private Long rootId;
+
+    // 최상위 댓글부터 자신까지의 ID 경로 (예: 0000000012/0000000034/) - 경로 순으로 읽으면 트리를 깊이 우선 순서로 읽음
+    @Column(length = 255)
+    private String path;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private int depth;
+
+    // 바로 아래 답글 수 - 답글 추가/삭제 시 상대값으로 갱신
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long replyCount;
+
     public Comment(String content, User user, Post post) {
         this.content = content;
         this.user = user;
         this.post = post;
         this.likeCount = 0L;
+        this.likeVersion = 0L;
+        this.replyCount = 0L;
+    }
+
+    // IDENTITY 라 저장 후에 ID 가 정해지므로 저장 직후 경로 지정 (parent 가 null 이면 최상위 댓글)
+    public void attachTo(Comment parent) {
+        if (parent == null) {
+            this.rootId = id;
+            this.depth = 0;
+            this.path = pathSegment(id);
+            return;
+        }
+        this.parentId = parent.getId();
+        this.rootId = parent.getRootId() != null ? parent.getRootId() : parent.getId();
+        this.depth = parent.getDepth() + 1;
+        this.path = parent.getTreePath() + pathSegment(id);
+    }
+
+    // 경로가 아직 채워지지 않은 기존 최상위 댓글도 같은 규칙으로 계산
+    public String getTreePath() {
+        return path != null ? path : pathSegment(id);
+    }
+
+    public static String pathSegment(Long id) {
+        return String.format("%010d/", id);
+    }
+
+    // 경로가 path 로 시작하는 모든 댓글(하위 트리)은 [path, subtreeEnd(path)) 범위 - '~' 는 숫자와 '/' 보다 큼
+    public static String subtreeEnd(String path) {
+        return path + "~";
     }
 
     public void update(String comment) {
@@ -1,10 +1,139 @@
 package com.sparta.wildcard_newsfeed.domain.comment.repository;
 
+import com.sparta.wildcard_newsfeed.domain.comment.dto.TopCommentDto;
 import com.sparta.wildcard_newsfeed.domain.comment.entity.Comment;
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikeTargetDto;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    List<Comment> findByPostId(long postId);
-}
\ No newline at end of file
+    // 게시물별 댓글 첫 페이지 - (post_id, depth, created_at, id) 인덱스 순서 그대로 읽음, 작성자 이름을 함께 내려주므로 user 를 fetch join
+    @EntityGraph(attributePaths = "user")
+    @Query("select c from Comment c where c.post.id = :postId and c.depth = 0 order by c.createdAt asc, c.id asc")
+    List<Comment> findFirstPageByPostId(@Param("postId") long postId, Pageable pageable);
+
+    // 커서(마지막 댓글의 작성일시, ID) 다음 페이지 - OFFSET 없이 인덱스 범위 조회
+    @EntityGraph(attributePaths = "user")
+    @Query("select c from Comment c where c.post.id = :postId and c.depth = 0 " +
+            "and (c.createdAt > :createdAt or (c.createdAt = :createdAt and c.id > :id)) " +
+            "order by c.createdAt asc, c.id asc")
+    List<Comment> findNextPageByPostId(@Param("postId") long postId,
+                                       @Param("createdAt") LocalDateTime createdAt,
+                                       @Param("id") long id,
+                                       Pageable pageable);
+
+    // 관리자 최신 댓글 피드 - (created_at, id) 인덱스를 역순으로 읽고 한 페이지에서 멈춤
+    @EntityGraph(attributePaths = "user")
+    @Query("select c from Comment c order by c.createdAt desc, c.id desc")
+    List<Comment> findLatest(Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
+    @Query("select c from Comment c " +
+            "where c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id) " +
+            "order by c.createdAt desc, c.id desc")
+    List<Comment> findLatestBefore(@Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") long id,
+                                   Pageable pageable);
+
+    // 게시물별 최신 댓글 - (post_id, created_at, id) 인덱스, 작성자 필터는 한 게시물의 댓글 안에서만 거름
+    @EntityGraph(attributePaths = "user")
+    @Query("select c from Comment c where c.post.id = :postId and (:userId is null or c.user.id = :userId) " +
+            "order by c.createdAt desc, c.id desc")
+    List<Comment> findLatestByPostId(@Param("postId") long postId, @Param("userId") Long userId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
+    @Query("select c from Comment c where c.post.id = :postId and (:userId is null or c.user.id = :userId) " +
+            "and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id)) " +
+            "order by c.createdAt desc, c.id desc")
+    List<Comment> findLatestByPostIdBefore(@Param("postId") long postId,
+                                           @Param("userId") Long userId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") long id,
+                                           Pageable pageable);
+
+    // 작성자별 최신 댓글 - (user_id, created_at, id) 인덱스
+    @EntityGraph(attributePaths = "user")
+    @Query("select c from Comment c where c.user.id = :userId order by c.createdAt desc, c.id desc")
+    List<Comment> findLatestByUserId(@Param("userId") long userId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
+    @Query("select c from Comment c where c.user.id = :userId " +
+            "and (c.createdAt < :createdAt or (c.createdAt = :createdAt and c.id < :id)) " +
+            "order by c.createdAt desc, c.id desc")
+    List<Comment> findLatestByUserIdBefore(@Param("userId") long userId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") long id,
+                                           Pageable pageable);
+
+    // 좋아요 수 원자적 증감 - updatedAt 도 함께 갱신해서 게시물 상세 ETag 가 바뀌도록 함
+    @Modifying
+    @Query("update Comment c set c.likeCount = c.likeCount + :delta, c.likeVersion = c.likeVersion + 1, c.updatedAt = :now " +
+            "where c.id = :commentId")
+    int updateLikeCount(@Param("commentId") Long commentId, @Param("delta") long delta, @Param("now") LocalDateTime now);
+
+    @Query("select c.likeVersion from Comment c where c.id = :commentId")
+    Optional<Long> findLikeVersionById(@Param("commentId") Long commentId);
+
+    // 스레드 페이지의 최상위 댓글 경로 - afterPath(이전 페이지 마지막 최상위 댓글) 다음부터
+    @Query("select c.path from Comment c where c.post.id = :postId and c.depth = 0 and c.path > :afterPath " +
+            "order by c.path asc")
+    List<String> findRootPaths(@Param("postId") long postId, @Param("afterPath") String afterPath, Pageable pageable);
+
+    // 경로 범위 (afterPath, toPath) 의 댓글 - 여러 스레드 전체 또는 한 댓글의 하위 트리를 (post_id, path) 인덱스 범위 한 번으로 조회
+    @EntityGraph(attributePaths = "user")
+    @Query("select c from Comment c where c.post.id = :postId and c.path > :afterPath and c.path < :toPath " +
+            "order by c.path asc")
+    List<Comment> findByPathRange(@Param("postId") long postId,
+                                  @Param("afterPath") String afterPath,
+                                  @Param("toPath") String toPath,
+                                  Pageable pageable);
+
+    // 스레드 페이지의 댓글 ID - (afterPath, toPath) 범위를 스레드(root_id)별 경로 순번으로 잘라서 limit 개까지만 (순번 1 은 최상위 댓글)
+    @Query(value = "select r.id from (select c.id as id, " +
+            "row_number() over (partition by c.root_id order by c.path) as rn " +
+            "from comment c where c.post_id = :postId and c.path > :afterPath and c.path < :toPath) r " +
+            "where r.rn <= :limit", nativeQuery = true)
+    List<Long> findThreadCommentIds(@Param("postId") long postId,
+                                    @Param("afterPath") String afterPath,
+                                    @Param("toPath") String toPath,
+                                    @Param("limit") int limit);
+
+    @EntityGraph(attributePaths = "user")
+    @Query("select c from Comment c where c.id in :ids order by c.path asc")
+    List<Comment> findWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 하위 트리 전체 삭제 - 삭제된 행 수만큼 게시물 댓글 수 감소
+    @Modifying
+    @Query("delete from Comment c where c.post.id = :postId and c.path >= :path and c.path < :toPath")
+    int deleteSubtree(@Param("postId") long postId, @Param("path") String path, @Param("toPath") String toPath);
+
+    // 답글 수 원자적 증감
+    @Modifying
+    @Query("update Comment c set c.replyCount = c.replyCount + :delta where c.id = :commentId")
+    int updateReplyCount(@Param("commentId") Long commentId, @Param("delta") long delta);
+
+    // 게시물마다 좋아요 많은 최상위 댓글 limit 개 - 페이지의 게시물 전체를 윈도 함수 한 번으로, 작성자는 뽑힌 댓글만 조인
+    @Query(value = "select c.post_id as postId, c.id as id, c.content as content, u.name as username, " +
+            "c.created_at as createdAt, c.like_count as likeCount " +
+            "from (select c.id as id, row_number() over (partition by c.post_id order by c.like_count desc, c.id asc) as rn " +
+            "from comment c where c.post_id in (:postIds) and c.depth = 0) ranked " +
+            "join comment c on c.id = ranked.id " +
+            "left join user u on u.id = c.user_id " +
+            "where ranked.rn <= :limit " +
+            "order by c.post_id, ranked.rn", nativeQuery = true)
+    List<TopCommentDto> findTopCommentsByPostIds(@Param("postIds") Collection<Long> postIds, @Param("limit") int limit);
+
+    // 좋아요 대상 확인 - post_id, user_id 컬럼만 읽으므로 게시물/사용자 조인 없음
+    @Query("select new com.sparta.wildcard_newsfeed.domain.liked.dto.LikeTargetDto(c.post.id, c.user.id) " +
+            "from Comment c where c.id = :commentId")
+    Optional<LikeTargetDto> findLikeTargetById(@Param("commentId") Long commentId);
+}
@@ -0,0 +1,69 @@
+package com.sparta.wildcard_newsfeed.domain.comment.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+/**
+ * 답글 기능 이전에 작성된 댓글(모두 최상위 댓글)에 경로를 채움
+ * PK 구간(id > lastId and id <= lastId + chunk-size)으로 나눠서 바로 커밋하고 pause-ms 만큼 쉬어서 테이블을 오래 잠그지 않음
+ * path is null 조건에 쓸 인덱스가 없으므로 limit 로 자르면 매번 앞에서부터 다시 스캔/잠금하게 됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentPathBackfill {
+
+    private static final String BACKFILL_SQL =
+            "update comment set root_id = id, depth = 0, path = concat(lpad(id, 10, '0'), '/') " +
+                    "where id > ? and id <= ? and path is null and parent_id is null";
+    private static final String MAX_ID_SQL = "select max(id) from comment";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${newsfeed.comment.path-backfill.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${newsfeed.comment.path-backfill.pause-ms:50}")
+    private long pauseMs;
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        backfill();
+    }
+
+    public long backfill() {
+        // 시작 이후 작성된 댓글은 작성 시점에 경로가 채워지므로 시작 시점의 최대 ID 까지만 훑음
+        Long maxId = jdbcTemplate.queryForObject(MAX_ID_SQL, Long.class);
+        if (maxId == null) {
+            return 0;
+        }
+
+        long total = 0;
+        long lastId = 0;
+        while (lastId < maxId) {
+            long toId = lastId + chunkSize;
+            total += jdbcTemplate.update(BACKFILL_SQL, lastId, toId);
+            lastId = toId;
+            if (lastId < maxId && pauseMs > 0) {
+                try {
+                    Thread.sleep(pauseMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+
+        if (total > 0) {
+            log.info("댓글 경로 backfill: {}건", total);
+        }
+        return total;
+    }
+}
@@ -1,7 +1,6 @@
 package com.sparta.wildcard_newsfeed.domain.comment.service;
 
-import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentRequestDto;
-import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.*;
 import com.sparta.wildcard_newsfeed.domain.comment.entity.Comment;
 import com.sparta.wildcard_newsfeed.domain.comment.repository.CommentRepository;
 import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
@@ -9,24 +8,42 @@ import com.sparta.wildcard_newsfeed.domain.post.repository.PostRepository;
 import com.sparta.wildcard_newsfeed.domain.user.entity.User;
 import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
 import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
+import com.sparta.wildcard_newsfeed.util.CursorUtils;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int MAX_COMMENT_PAGE_SIZE = 100;
+    // 경로 길이(255) 안에 들어가는 깊이
+    private static final int MAX_REPLY_DEPTH = 20;
+
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 스레드 조회 시 스레드마다 함께 내려주는 답글 수
+    @Value("${newsfeed.comment.thread-reply-size:3}")
+    private int threadReplySize;
 
     @Transactional
     public CommentResponseDto addComment(long postId, CommentRequestDto request, AuthenticationUser user) {
@@ -36,9 +53,42 @@ public class CommentService {
         // DB에 게시물이 존재하지 않는 경우
         Post post = findPostById(postId);
         Comment comment = commentRepository.save(new Comment(request.getContent(), byUsercode, post));
+        comment.attachTo(null);
+        // 댓글 수는 읽지 않고 DB 에서 상대값으로 증가 (동시 댓글 작성 시 유실 방지)
+        postRepository.updateCommentCount(postId, 1);
+
+        eventPublisher.publishEvent(CommentCreatedEvent.of(postId, comment.getId()));
         return new CommentResponseDto(comment);
     }
 
+    @Transactional
+    public CommentResponseDto addReply(long postId, long parentId, CommentRequestDto request, AuthenticationUser user) {
+        User byUsercode = userRepository.findByUsercode(user.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        Post post = findPostById(postId);
+        Comment parent = findCommentById(parentId);
+        if (!Objects.equals(parent.getPost().getId(), postId)) {
+            throw new IllegalArgumentException("해당 게시물의 댓글이 아닙니다.");
+        }
+        if (parent.getDepth() >= MAX_REPLY_DEPTH) {
+            throw new IllegalArgumentException("더 이상 답글을 달 수 없습니다.");
+        }
+
+        // backfill 전인 기존 댓글이면 부모 경로부터 채움 (부모를 삭제할 때 경로 범위로 답글까지 지우도록)
+        if (parent.getPath() == null) {
+            parent.attachTo(null);
+        }
+        Comment reply = commentRepository.save(new Comment(request.getContent(), byUsercode, post));
+        reply.attachTo(parent);
+        commentRepository.updateReplyCount(parentId, 1);
+        postRepository.updateCommentCount(postId, 1);
+
+        eventPublisher.publishEvent(CommentCreatedEvent.of(postId, reply.getId()));
+        return new CommentResponseDto(reply);
+    }
+
+    @Transactional
     public CommentResponseDto updateComment(long postId, long commentId, CommentRequestDto request, AuthenticationUser user) {
         // DB에 게시물이 존재하지 않는 경우
         findPostById(postId);
@@ -52,9 +102,13 @@ public class CommentService {
 
         comment.update(request.getContent());
         commentRepository.save(comment);
+        postRepository.increaseCommentVersion(postId);
+
+        eventPublisher.publishEvent(CommentUpdatedEvent.of(postId, commentId));
         return new CommentResponseDto(comment);
     }
 
+    @Transactional
     public void deleteComment(long postId, long commentId, String username) {
         // DB에 게시물이 존재하지 않는 경우
         findPostById(postId);
@@ -67,15 +121,124 @@ public class CommentService {
             throw new IllegalArgumentException("작성자만 삭제할 수 있습니다.");
         }
 
-        commentRepository.delete(comment);
+        // 답글까지 하위 트리 전체를 경로 범위로 한 번에 삭제 - backfill 전인 기존 댓글은 경로를 먼저 채워서 같은 방식으로
+        if (comment.getPath() == null) {
+            comment.attachTo(null);
+            commentRepository.saveAndFlush(comment);
+        }
+        String path = comment.getPath();
+        int deleted = commentRepository.deleteSubtree(postId, path, Comment.subtreeEnd(path));
+        if (comment.getParentId() != null) {
+            commentRepository.updateReplyCount(comment.getParentId(), -1);
+        }
+        postRepository.updateCommentCount(postId, -deleted);
+
+        eventPublisher.publishEvent(CommentDeletedEvent.of(postId, commentId));
     }
 
-    public List<CommentResponseDto> findAllCommentsByPostId(long postId) {
-        // 해당 postId와 연관된 댓글을 조회하는 로직 구현
-        List<Comment> comments = commentRepository.findByPostId(postId);
-        return comments.stream()
-                .map(CommentResponseDto::new)
-                .collect(Collectors.toList());
+    // 게시물의 최상위 댓글을 (작성일시, ID) 순 커서 페이징으로 조회 (답글은 replyCount 로 개수만) - 첫 페이지는 cursor 없이 요청
+    public CommentCursorPageResponseDto getCommentPage(long postId, String cursor, int size) {
+        validatePageSize(size);
+
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<Comment> comments;
+        if (cursor == null || cursor.isBlank()) {
+            comments = commentRepository.findFirstPageByPostId(postId, pageable);
+        } else {
+            String[] values = CursorUtils.decode(cursor, 2);
+            try {
+                comments = commentRepository.findNextPageByPostId(postId,
+                        LocalDateTime.parse(values[0]), Long.parseLong(values[1]), pageable);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+        }
+
+        // 결과가 없을 때만 게시물 존재 여부 확인 (보통은 쿼리 한 번)
+        if (comments.isEmpty() && !postRepository.existsById(postId)) {
+            throw new IllegalArgumentException("해당 게시물이 존재하지 않습니다.");
+        }
+        return CommentCursorPageResponseDto.of(comments, size);
+    }
+
+    // 최상위 댓글 size 개 스레드를 트리 순서로 조회, 스레드마다 답글은 앞에서부터 threadReplySize 개까지만
+    // 최상위 댓글 경로 조회 + 스레드별 순번으로 자른 ID 조회 + 댓글 조회, 나머지 답글은 replyCursors 로 getReplies 에서 이어서 조회
+    public CommentThreadPageResponseDto getCommentThreads(long postId, String cursor, int size) {
+        validatePageSize(size);
+        String afterRootPath = cursor == null || cursor.isBlank() ? "" : CursorUtils.decode(cursor, 1)[0];
+
+        List<String> rootPaths = commentRepository.findRootPaths(postId, afterRootPath, PageRequest.of(0, size + 1));
+        if (rootPaths.isEmpty()) {
+            if (!postRepository.existsById(postId)) {
+                throw new IllegalArgumentException("해당 게시물이 존재하지 않습니다.");
+            }
+            return new CommentThreadPageResponseDto(List.of(), 0, false, null, Map.of());
+        }
+
+        boolean hasNext = rootPaths.size() > size;
+        List<String> pageRootPaths = hasNext ? rootPaths.subList(0, size) : rootPaths;
+        String lastRootPath = pageRootPaths.get(pageRootPaths.size() - 1);
+        String afterPath = afterRootPath.isEmpty() ? "" : Comment.subtreeEnd(afterRootPath);
+
+        // 스레드마다 최상위 댓글 + 답글 threadReplySize 개 + 더 있는지 확인용 1 건
+        List<Long> ids = commentRepository.findThreadCommentIds(postId, afterPath, Comment.subtreeEnd(lastRootPath),
+                threadReplySize + 2);
+        List<Comment> comments = commentRepository.findWithUserByIdIn(ids);
+
+        Map<Long, Integer> replyCounts = new HashMap<>();
+        Map<Long, String> lastReplyPaths = new HashMap<>();
+        Map<Long, String> replyCursors = new LinkedHashMap<>();
+        List<CommentResponseDto> content = new ArrayList<>(comments.size());
+        for (Comment comment : comments) {
+            if (comment.getDepth() == 0) {
+                content.add(new CommentResponseDto(comment));
+                continue;
+            }
+            int count = replyCounts.merge(comment.getRootId(), 1, Integer::sum);
+            if (count > threadReplySize) {
+                replyCursors.put(comment.getRootId(), CursorUtils.encode(lastReplyPaths.get(comment.getRootId())));
+                continue;
+            }
+            lastReplyPaths.put(comment.getRootId(), comment.getPath());
+            content.add(new CommentResponseDto(comment));
+        }
+        return new CommentThreadPageResponseDto(content, pageRootPaths.size(), hasNext,
+                hasNext ? CursorUtils.encode(lastRootPath) : null, replyCursors);
+    }
+
+    // 한 댓글의 하위 답글 전체를 트리 순서로 조회 - 경로 범위 한 번, 커서는 마지막 답글 경로
+    public CommentCursorPageResponseDto getReplies(long postId, long commentId, String cursor, int size) {
+        validatePageSize(size);
+        Comment comment = findCommentById(commentId);
+        if (!Objects.equals(comment.getPost().getId(), postId)) {
+            throw new IllegalArgumentException("해당 게시물의 댓글이 아닙니다.");
+        }
+
+        String path = comment.getTreePath();
+        String afterPath = path;
+        if (cursor != null && !cursor.isBlank()) {
+            afterPath = CursorUtils.decode(cursor, 1)[0];
+            if (!afterPath.startsWith(path)) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+        }
+
+        List<Comment> replies = commentRepository.findByPathRange(postId, afterPath, Comment.subtreeEnd(path),
+                PageRequest.of(0, size + 1));
+        boolean hasNext = replies.size() > size;
+        List<Comment> page = hasNext ? replies.subList(0, size) : replies;
+        return new CommentCursorPageResponseDto(
+                page.stream().map(CommentResponseDto::new).toList(),
+                page.size(),
+                hasNext,
+                hasNext ? CursorUtils.encode(page.get(page.size() - 1).getPath()) : null);
+    }
+
+    private void validatePageSize(int size) {
+        if (size < 1 || size > MAX_COMMENT_PAGE_SIZE) {
+            throw new IllegalArgumentException("댓글 수는 1 ~ " + MAX_COMMENT_PAGE_SIZE + " 사이만 가능합니다.");
+        }
     }
 
     public Comment findCommentById(Long commentId) {
@@ -88,11 +251,38 @@ public class CommentService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 게시물이 존재하지 않습니다."));
     }
 
-    public List<CommentResponseDto> findAll() {
-        List<Comment> commentlist = commentRepository.findAll();
-        return commentlist.stream()
-                .sorted(Comparator.comparing(Comment::getCreatedAt).reversed())
-                .map(CommentResponseDto::new)
-                .toList();
+    // 관리자용 최신 댓글 피드 (작성일시, ID 역순 커서 페이징) - 게시물/작성자 필터는 선택, 한 페이지(size + 1 건)만 조회
+    public CommentCursorPageResponseDto getLatestComments(Long postId, Long userId, String cursor, int size) {
+        validatePageSize(size);
+
+        Pageable pageable = PageRequest.of(0, size + 1);
+        List<Comment> comments;
+        if (cursor == null || cursor.isBlank()) {
+            if (postId != null) {
+                comments = commentRepository.findLatestByPostId(postId, userId, pageable);
+            } else if (userId != null) {
+                comments = commentRepository.findLatestByUserId(userId, pageable);
+            } else {
+                comments = commentRepository.findLatest(pageable);
+            }
+        } else {
+            String[] values = CursorUtils.decode(cursor, 2);
+            LocalDateTime createdAt;
+            long id;
+            try {
+                createdAt = LocalDateTime.parse(values[0]);
+                id = Long.parseLong(values[1]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            if (postId != null) {
+                comments = commentRepository.findLatestByPostIdBefore(postId, userId, createdAt, id, pageable);
+            } else if (userId != null) {
+                comments = commentRepository.findLatestByUserIdBefore(userId, createdAt, id, pageable);
+            } else {
+                comments = commentRepository.findLatestBefore(createdAt, id, pageable);
+            }
+        }
+        return CommentCursorPageResponseDto.of(comments, size);
     }
-}
\ No newline at end of file
+}
@@ -26,4 +26,9 @@ public abstract class TimeStampEntity {
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
+
+    // 컬럼 값이 그대로여도 (연관 엔티티만 바뀐 경우 등) 수정된 것으로 표시 - 변경 감지로 update 가 나가면서 수정일시가 갱신됨
+    protected void markModified() {
+        this.updatedAt = LocalDateTime.now();
+    }
 }
\ No newline at end of file
@@ -5,11 +5,13 @@ import com.sparta.wildcard_newsfeed.util.FileUtils;
 import com.sparta.wildcard_newsfeed.util.S3FileUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 
 @Slf4j
 @Service
@@ -19,6 +21,10 @@ public class FileService {
     private final FileUtils fileUtils;
     private final S3FileUtils s3FileUtils;
 
+    // false 면 기존 방식 (로컬에 저장 후 업로드하고 삭제)
+    @Value("${newsfeed.file.upload.streaming:true}")
+    private boolean streamingUpload;
+
     public File saveFileToLocal(MultipartFile multipartFile, String uuidFileName) {
         String localLocation = fileUtils.getAbsoluteUploadFolder();
         String fullFilePath = localLocation + uuidFileName;
@@ -33,6 +39,22 @@ public class FileService {
     }
 
     public String uploadFileToS3(MultipartFile multipartFile) {
+        if (!streamingUpload) {
+            return uploadFileToS3ViaLocal(multipartFile);
+        }
+
+        // 업로드 폴더로 한 번 더 복사하지 않고 part 의 스트림을 바로 업로드
+        // fileSizeThreshold 를 넘는 part 는 컨트롤러에 오기 전에 컨테이너가 multipart location 에 임시 파일로 받아두므로
+        // 큰 파일은 그 임시 파일을 읽음 (디스크 쓰기가 두 번에서 한 번으로 줄어드는 것이고 없어지지는 않음)
+        String uuidFileName = fileUtils.createUuidFileName(multipartFile.getOriginalFilename());
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            return s3FileUtils.uploadStream(uuidFileName, inputStream, multipartFile.getSize(), multipartFile.getContentType());
+        } catch (Exception e) {
+            throw new FileException("S3에 파일 업로드 실패", e);
+        }
+    }
+
+    public String uploadFileToS3ViaLocal(MultipartFile multipartFile) {
         String uuidFileName = fileUtils.createUuidFileName(multipartFile.getOriginalFilename());
         File savedFile = saveFileToLocal(multipartFile, uuidFileName);
 
@@ -0,0 +1,67 @@
+package com.sparta.wildcard_newsfeed.domain.follow.controller;
+
+import com.sparta.wildcard_newsfeed.domain.common.CommonResponseDto;
+import com.sparta.wildcard_newsfeed.domain.follow.dto.FollowResponseDto;
+import com.sparta.wildcard_newsfeed.domain.follow.service.FollowService;
+import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/follow")
+@Tag(name = "Follow 컨트롤러", description = "Follow API")
+public class FollowController {
+
+    private final FollowService followService;
+
+    @PostMapping("/{userId}")
+    @Operation(summary = "팔로우")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "팔로우 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CommonResponseDto.class)))
+    })
+    public ResponseEntity<CommonResponseDto<FollowResponseDto>> follow(
+            @AuthenticationPrincipal AuthenticationUser user,
+            @PathVariable(name = "userId") Long userId
+    ) {
+        FollowResponseDto responseDto = followService.follow(userId, user);
+        return ResponseEntity.ok()
+                .body(CommonResponseDto.<FollowResponseDto>builder()
+                        .statusCode(HttpStatus.OK.value())
+                        .message("팔로우 성공")
+                        .data(responseDto)
+                        .build());
+    }
+
+    @DeleteMapping("/{userId}")
+    @Operation(summary = "언팔로우")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "언팔로우 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CommonResponseDto.class)))
+    })
+    public ResponseEntity<CommonResponseDto<FollowResponseDto>> unfollow(
+            @AuthenticationPrincipal AuthenticationUser user,
+            @PathVariable(name = "userId") Long userId
+    ) {
+        followService.unfollow(userId, user);
+        return ResponseEntity.ok()
+                .body(CommonResponseDto.<FollowResponseDto>builder()
+                        .statusCode(HttpStatus.OK.value())
+                        .message("언팔로우 성공")
+                        .build());
+    }
+}
@@ -0,0 +1,21 @@
+package com.sparta.wildcard_newsfeed.domain.follow.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.sparta.wildcard_newsfeed.domain.follow.entity.Follow;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class FollowResponseDto {
+    private Long followerId;
+    private Long followingId;
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    public FollowResponseDto(Follow follow) {
+        this.followerId = follow.getFollower().getId();
+        this.followingId = follow.getFollowing().getId();
+        this.createdAt = follow.getCreatedAt();
+    }
+}
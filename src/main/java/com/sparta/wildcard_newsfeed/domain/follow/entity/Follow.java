@@ -0,0 +1,36 @@
+package com.sparta.wildcard_newsfeed.domain.follow.entity;
+
+import com.sparta.wildcard_newsfeed.domain.common.TimeStampEntity;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_follow_follower_following", columnNames = {"follower_id", "following_id"}),
+        // 게시물 작성 시 팔로워 목록을 작성자 기준으로 순회 (fan-out)
+        indexes = @Index(name = "idx_follow_following_follower", columnList = "following_id, follower_id")
+)
+public class Follow extends TimeStampEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 팔로우 하는 사용자
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "follower_id", nullable = false)
+    private User follower;
+
+    // 팔로우 받는 사용자
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "following_id", nullable = false)
+    private User following;
+
+    public Follow(User follower, User following) {
+        this.follower = follower;
+        this.following = following;
+    }
+}
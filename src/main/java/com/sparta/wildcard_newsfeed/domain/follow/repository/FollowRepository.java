@@ -0,0 +1,38 @@
+package com.sparta.wildcard_newsfeed.domain.follow.repository;
+
+import com.sparta.wildcard_newsfeed.domain.follow.entity.Follow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface FollowRepository extends JpaRepository<Follow, Long> {
+    boolean existsByFollowerIdAndFollowingId(Long followerId, Long followingId);
+
+    Optional<Follow> findByFollowerIdAndFollowingId(Long followerId, Long followingId);
+
+    // (following_id, follower_id) 인덱스를 follower_id 순으로 끊어서 조회
+    @Query("select f.follower.id from Follow f " +
+            "where f.following.id = :followingId and f.follower.id > :lastFollowerId " +
+            "order by f.follower.id")
+    List<Long> findFollowerIds(@Param("followingId") Long followingId,
+                               @Param("lastFollowerId") Long lastFollowerId,
+                               Pageable pageable);
+
+    @Query("select f.following.id from Follow f " +
+            "group by f.following.id having count(f) >= :threshold")
+    List<Long> findUserIdsByFollowerCountAtLeast(@Param("threshold") long threshold);
+
+    // 사용자가 팔로우하는 작성자 중 주어진 작성자 목록에 포함된 id
+    @Query("select f.following.id from Follow f " +
+            "where f.follower.id = :followerId and f.following.id in :followingIds")
+    List<Long> findFollowingIdsIn(@Param("followerId") Long followerId,
+                                  @Param("followingIds") Collection<Long> followingIds);
+
+    @Query("select f.following.id from Follow f where f.follower.id = :followerId")
+    List<Long> findFollowingIds(@Param("followerId") Long followerId);
+}
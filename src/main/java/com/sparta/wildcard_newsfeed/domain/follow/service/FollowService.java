@@ -0,0 +1,66 @@
+package com.sparta.wildcard_newsfeed.domain.follow.service;
+
+import com.sparta.wildcard_newsfeed.domain.follow.dto.FollowResponseDto;
+import com.sparta.wildcard_newsfeed.domain.follow.entity.Follow;
+import com.sparta.wildcard_newsfeed.domain.follow.repository.FollowRepository;
+import com.sparta.wildcard_newsfeed.domain.timeline.service.TimelineBackfillService;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
+import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowService {
+
+    private final FollowRepository followRepository;
+    private final UserRepository userRepository;
+    private final TimelineBackfillService timelineBackfillService;
+
+    @Transactional
+    public FollowResponseDto follow(Long followingId, AuthenticationUser user) {
+        User follower = findUserByUsercode(user.getUsername());
+
+        if (follower.getId().equals(followingId)) {
+            throw new IllegalArgumentException("본인은 팔로우할 수 없습니다.");
+        }
+        User following = userRepository.findById(followingId)
+                .orElseThrow(() -> new IllegalArgumentException("팔로우할 사용자를 찾을 수 없습니다."));
+
+        if (followRepository.existsByFollowerIdAndFollowingId(follower.getId(), followingId)) {
+            throw new IllegalArgumentException("이미 팔로우한 사용자입니다.");
+        }
+
+        // 동시에 들어온 같은 팔로우 요청은 위 확인을 함께 통과하고 (follower_id, following_id) 유니크 제약에서 걸림
+        Follow follow;
+        try {
+            follow = followRepository.saveAndFlush(new Follow(follower, following));
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalArgumentException("이미 팔로우한 사용자입니다.");
+        }
+        // 팔로우 이전에 작성된 최근 게시물도 타임라인에 보이도록
+        timelineBackfillService.deliverRecentPosts(followingId, follower.getId());
+        return new FollowResponseDto(follow);
+    }
+
+    @Transactional
+    public void unfollow(Long followingId, AuthenticationUser user) {
+        User follower = findUserByUsercode(user.getUsername());
+
+        Follow follow = followRepository.findByFollowerIdAndFollowingId(follower.getId(), followingId)
+                .orElseThrow(() -> new IllegalArgumentException("팔로우하지 않은 사용자입니다."));
+
+        followRepository.delete(follow);
+        timelineBackfillService.removeAuthorPosts(followingId, follower.getId());
+    }
+
+    private User findUserByUsercode(String usercode) {
+        return userRepository.findByUsercode(usercode)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    }
+}
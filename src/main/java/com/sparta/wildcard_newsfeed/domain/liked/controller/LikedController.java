@@ -3,6 +3,8 @@ package com.sparta.wildcard_newsfeed.domain.liked.controller;
 import com.sparta.wildcard_newsfeed.domain.common.CommonResponseDto;
 import com.sparta.wildcard_newsfeed.domain.liked.dto.LikedRequestDto;
 import com.sparta.wildcard_newsfeed.domain.liked.dto.LikedResponseDto;
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikerPageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
 import com.sparta.wildcard_newsfeed.domain.liked.service.LikedService;
 import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
 import io.swagger.v3.oas.annotations.Operation;
@@ -59,4 +61,49 @@ public class LikedController {
                         .message("좋아요 제거 성공")
                         .build());
     }
-}
\ No newline at end of file
+
+    @GetMapping("/users")
+    @Operation(summary = "좋아요한 사용자 목록")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "좋아요한 사용자 목록 조회 성공")
+    })
+    public ResponseEntity<CommonResponseDto<LikerPageResponseDto>> getLikers(
+            @RequestParam ContentsTypeEnum contentsType,
+            @RequestParam Long contentsId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        LikerPageResponseDto responseDto = likedService.getLikers(contentsType, contentsId, cursor, limitSize(size));
+        return ResponseEntity.ok()
+                .body(CommonResponseDto.<LikerPageResponseDto>builder()
+                        .statusCode(HttpStatus.OK.value())
+                        .message("좋아요한 사용자 목록 조회 성공")
+                        .data(responseDto)
+                        .build());
+    }
+
+    @GetMapping("/users/following")
+    @Operation(summary = "내가 팔로우하는 사람 중 좋아요한 사용자 목록")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "팔로우 중 좋아요한 사용자 목록 조회 성공")
+    })
+    public ResponseEntity<CommonResponseDto<LikerPageResponseDto>> getFollowingLikers(
+            @AuthenticationPrincipal AuthenticationUser user,
+            @RequestParam ContentsTypeEnum contentsType,
+            @RequestParam Long contentsId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        LikerPageResponseDto responseDto = likedService.getFollowingLikers(contentsType, contentsId, user, cursor, limitSize(size));
+        return ResponseEntity.ok()
+                .body(CommonResponseDto.<LikerPageResponseDto>builder()
+                        .statusCode(HttpStatus.OK.value())
+                        .message("팔로우 중 좋아요한 사용자 목록 조회 성공")
+                        .data(responseDto)
+                        .build());
+    }
+
+    private int limitSize(int size) {
+        return Math.max(1, Math.min(size, 100));
+    }
+}
@@ -0,0 +1,7 @@
+package com.sparta.wildcard_newsfeed.domain.liked.dto;
+
+/**
+ * 좋아요 대상 확인용 - 엔티티 전체 대신 대상이 속한 게시물 ID 와 작성자 ID 만 조회
+ */
+public record LikeTargetDto(Long postId, Long writerId) {
+}
@@ -0,0 +1,34 @@
+package com.sparta.wildcard_newsfeed.domain.liked.dto;
+
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@Builder
+public class LikedChangedEvent {
+    private Long userId;
+    private Long contentsId;
+    private ContentsTypeEnum contentsType;
+    private Long postId; // 좋아요 대상 게시물 (댓글이면 댓글이 달린 게시물)
+    private boolean liked; // true: 좋아요 추가, false: 좋아요 제거
+    private Long likeVersion; // 이 변경을 반영한 뒤의 컨텐츠 좋아요 버전 (모르면 null)
+
+    public static LikedChangedEvent of(Long userId, Long contentsId, ContentsTypeEnum contentsType, Long postId, boolean liked) {
+        return of(userId, contentsId, contentsType, postId, liked, null);
+    }
+
+    public static LikedChangedEvent of(Long userId, Long contentsId, ContentsTypeEnum contentsType, Long postId, boolean liked,
+                                       Long likeVersion) {
+        return LikedChangedEvent.builder()
+                .userId(userId)
+                .contentsId(contentsId)
+                .contentsType(contentsType)
+                .postId(postId)
+                .liked(liked)
+                .likeVersion(likeVersion)
+                .build();
+    }
+}
@@ -25,4 +25,12 @@ public class LikedResponseDto {
         this.createdAt = liked.getCreatedAt();
         this.updatedAt = liked.getUpdatedAt();
     }
-}
\ No newline at end of file
+
+    // insert ignore / write-behind 로 저장한 경우 - 엔티티를 만들지 않으므로 ID 가 없음
+    public LikedResponseDto(Long contentsId, ContentsTypeEnum contentsType) {
+        this.contentsId = contentsId;
+        this.contentsType = contentsType;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+}
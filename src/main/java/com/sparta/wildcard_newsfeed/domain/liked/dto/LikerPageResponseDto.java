@@ -0,0 +1,14 @@
+package com.sparta.wildcard_newsfeed.domain.liked.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class LikerPageResponseDto {
+    private long totalCount;
+    private List<LikerResponseDto> likers;
+    private Long nextCursor; // 마지막 페이지면 null
+}
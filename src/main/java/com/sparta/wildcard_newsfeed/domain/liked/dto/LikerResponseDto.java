@@ -0,0 +1,11 @@
+package com.sparta.wildcard_newsfeed.domain.liked.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LikerResponseDto {
+    private Long userId;
+    private String name;
+}
@@ -9,13 +9,25 @@ import lombok.NoArgsConstructor;
 @Getter
 @Entity
 @NoArgsConstructor
+@Table(uniqueConstraints = {
+        // 같은 사용자가 같은 컨텐츠에 좋아요를 두 번 남기지 못하도록 (insert ignore 의 기준)
+        @UniqueConstraint(name = "uk_liked_user_contents", columnNames = {"user_id", "contents_id", "content_type"})
+}, indexes = {
+        // 컨텐츠별 좋아요한 사용자 조회 (비트맵 재생성)
+        @Index(name = "idx_liked_contents_user", columnList = "contents_id, content_type, user_id")
+})
 public class Liked extends TimeStampEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
-    @JoinColumn(name = "user_id", nullable = false)
+    // 좋아요 조회/추가/취소에는 사용자 ID 만 필요하므로 연관관계 대신 ID 로 저장
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // user_id 외래 키를 유지하기 위한 읽기 전용 연관관계 (저장/조회는 userId 로)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", insertable = false, updatable = false)
     private User user;
 
     @Column(name = "contents_id", nullable = false)
@@ -25,8 +37,8 @@ public class Liked extends TimeStampEntity {
     @Column(name = "content_type", nullable = false)
     private ContentsTypeEnum contentsType;
 
-    public Liked(User user, Long contentsId, ContentsTypeEnum contentsType) {
-        this.user = user;
+    public Liked(Long userId, Long contentsId, ContentsTypeEnum contentsType) {
+        this.userId = userId;
         this.contentsId = contentsId;
         this.contentsType = contentsType;
     }
@@ -0,0 +1,43 @@
+package com.sparta.wildcard_newsfeed.domain.liked.entity;
+
+import com.sparta.wildcard_newsfeed.domain.common.TimeStampEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * 컨텐츠별 좋아요한 사용자 ID 비트맵(roaring bitmap 직렬화) 스냅샷
+ * 저장은 LikerBitmapIndex 가 JDBC upsert 로 하고, 이 엔티티는 테이블 정의용
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_liker_bitmap_contents", columnNames = {"contents_id", "content_type"})
+})
+public class LikerBitmapSnapshot extends TimeStampEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "contents_id", nullable = false)
+    private Long contentsId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "content_type", nullable = false)
+    private ContentsTypeEnum contentsType;
+
+    @Lob
+    @Column(nullable = false, length = 16_777_215)
+    private byte[] bitmap;
+
+    // 스냅샷 시점의 좋아요 수
+    @Column(nullable = false)
+    private Long cardinality;
+
+    // 스냅샷이 반영한 컨텐츠의 좋아요 버전 (post/comment.like_version) - 불러올 때 현재 버전과 다르면 버리고 다시 생성
+    @ColumnDefault("0")
+    @Column(name = "like_version", nullable = false)
+    private Long likeVersion;
+}
@@ -3,9 +3,39 @@ package com.sparta.wildcard_newsfeed.domain.liked.repository;
 import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
 import com.sparta.wildcard_newsfeed.domain.liked.entity.Liked;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface LikedRepository extends JpaRepository<Liked, Long> {
-    Optional<Liked> findByUserIdAndContentsIdAndContentsType(Long user_id, Long contentsId, ContentsTypeEnum contentsType);
+    Optional<Liked> findByUserIdAndContentsIdAndContentsType(Long userId, Long contentsId, ContentsTypeEnum contentsType);
+
+    // 페이지에 보이는 컨텐츠 중 사용자가 좋아요한 것 - (user_id, contents_id, content_type) 유니크 인덱스로 한 번에 조회
+    @Query("select l.contentsId from Liked l " +
+            "where l.userId = (select u.id from User u where u.usercode = :usercode) " +
+            "and l.contentsType = :contentsType and l.contentsId in :contentsIds")
+    List<Long> findLikedContentsIds(@Param("usercode") String usercode,
+                                    @Param("contentsType") ContentsTypeEnum contentsType,
+                                    @Param("contentsIds") Collection<Long> contentsIds);
+
+    // 이미 있으면 무시 - 반환값(추가된 행 수)이 1 일 때만 좋아요 수 증가
+    @Modifying
+    @Query(value = "insert ignore into liked (user_id, contents_id, content_type, created_at, updated_at) " +
+            "values (:userId, :contentsId, :contentsType, :now, :now)", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId,
+                     @Param("contentsId") Long contentsId,
+                     @Param("contentsType") String contentsType,
+                     @Param("now") LocalDateTime now);
+
+    // 삭제된 행 수가 1 일 때만 좋아요 수 감소
+    @Modifying
+    @Query("delete from Liked l where l.userId = :userId and l.contentsId = :contentsId and l.contentsType = :contentsType")
+    int deleteByUserIdAndContents(@Param("userId") Long userId,
+                                  @Param("contentsId") Long contentsId,
+                                  @Param("contentsType") ContentsTypeEnum contentsType);
 }
\ No newline at end of file
@@ -0,0 +1,150 @@
+package com.sparta.wildcard_newsfeed.domain.liked.service;
+
+import com.sparta.wildcard_newsfeed.config.SchedulingConfig;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostCountReconciledEvent;
+import com.sparta.wildcard_newsfeed.util.ChunkedReconciler;
+import com.sparta.wildcard_newsfeed.util.ChunkedReconciler.ReconcileResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * post.like_count / comment.like_count 가 liked 테이블과 어긋난 것을 주기적으로 바로잡음 (chunk 반복은 ChunkedReconciler)
+ * - chunk 마다 같은 id 범위의 liked 를 group by 한 번으로 집계해서 비교
+ * - 다른 행은 읽었을 때의 like_version(좋아요 추가/취소마다 증가)이 그대로일 때만 batch 로 수정, 그 사이 바뀌었으면 다음 실행에서 다시 확인
+ * - 수정한 chunk 마다 PostCountReconciledEvent 를 발행해서 캐시 제거/ETag 버전 증가 (댓글 좋아요는 게시물의 댓글 버전도 증가)
+ * - 오래 걸리는 작업이므로 다른 주기 작업을 막지 않도록 보정 전용 스케줄러에서 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountReconciler {
+
+    private static final String SELECT_POSTS_SQL =
+            "select id, like_count, like_version from post where id > ? order by id limit ?";
+    private static final String SELECT_COMMENTS_SQL =
+            "select id, like_count, like_version, post_id from comment where id > ? order by id limit ?";
+    private static final String COUNT_LIKES_SQL =
+            "select contents_id, count(*) from liked " +
+                    "where content_type = ? and contents_id between ? and ? group by contents_id";
+    private static final String FIX_POST_SQL =
+            "update post set like_count = ?, updated_at = ? where id = ? and like_version = ?";
+    private static final String FIX_COMMENT_SQL =
+            "update comment set like_count = ?, updated_at = ? where id = ? and like_version = ?";
+    private static final String UPDATE_COMMENT_VERSION_SQL =
+            "update post set comment_version = comment_version + 1 where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${newsfeed.like.reconcile.enabled:true}")
+    private boolean enabled;
+
+    @Value("${newsfeed.like.reconcile.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${newsfeed.like.reconcile.pause-ms:50}")
+    private long pauseMs;
+
+    private Counter fixedCounter;
+
+    // postId: 게시물이면 자신, 댓글이면 댓글이 달린 게시물
+    private record ContentsRow(long id, long likeCount, long likeVersion, long postId) {
+    }
+
+    private static final RowMapper<ContentsRow> POST_ROW_MAPPER = (rs, rowNum) ->
+            new ContentsRow(rs.getLong("id"), rs.getLong("like_count"), rs.getLong("like_version"), rs.getLong("id"));
+    private static final RowMapper<ContentsRow> COMMENT_ROW_MAPPER = (rs, rowNum) ->
+            new ContentsRow(rs.getLong("id"), rs.getLong("like_count"), rs.getLong("like_version"), rs.getLong("post_id"));
+
+    @PostConstruct
+    void registerMetrics() {
+        fixedCounter = meterRegistry.counter("like.reconcile.fixed");
+    }
+
+    @Scheduled(initialDelayString = "${newsfeed.like.reconcile.interval-ms:3600000}",
+            fixedDelayString = "${newsfeed.like.reconcile.interval-ms:3600000}",
+            scheduler = SchedulingConfig.RECONCILE_SCHEDULER)
+    public void scheduledReconcile() {
+        if (enabled) {
+            reconcile();
+        }
+    }
+
+    public synchronized ReconcileResult reconcile() {
+        ReconcileResult posts = reconcile(ContentsTypeEnum.POST, SELECT_POSTS_SQL, POST_ROW_MAPPER, FIX_POST_SQL);
+        ReconcileResult comments = reconcile(ContentsTypeEnum.COMMENT, SELECT_COMMENTS_SQL, COMMENT_ROW_MAPPER, FIX_COMMENT_SQL);
+        log.info("좋아요 수 보정 완료 - 게시물 {}건 중 {}건, 댓글 {}건 중 {}건 수정",
+                posts.scanned(), posts.fixed(), comments.scanned(), comments.fixed());
+        return posts.plus(comments);
+    }
+
+    private ReconcileResult reconcile(ContentsTypeEnum contentsType, String selectSql, RowMapper<ContentsRow> rowMapper,
+                                      String fixSql) {
+        return ChunkedReconciler.run(jdbcTemplate, selectSql, rowMapper, ContentsRow::id, chunkSize, pauseMs,
+                "좋아요 수 보정", rows -> fixChunk(contentsType, rows, fixSql));
+    }
+
+    private long fixChunk(ContentsTypeEnum contentsType, List<ContentsRow> rows, String fixSql) {
+        Map<Long, Long> actualCounts = new HashMap<>();
+        jdbcTemplate.query(COUNT_LIKES_SQL,
+                (RowCallbackHandler) rs -> actualCounts.put(rs.getLong(1), rs.getLong(2)),
+                contentsType.name(), rows.get(0).id(), rows.get(rows.size() - 1).id());
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<ContentsRow> drifted = new ArrayList<>();
+        List<Object[]> fixes = new ArrayList<>();
+        for (ContentsRow row : rows) {
+            long actual = actualCounts.getOrDefault(row.id(), 0L);
+            if (actual != row.likeCount()) {
+                drifted.add(row);
+                fixes.add(new Object[]{actual, now, row.id(), row.likeVersion()});
+            }
+        }
+        if (fixes.isEmpty()) {
+            return 0;
+        }
+
+        int[] updated = jdbcTemplate.batchUpdate(fixSql, fixes);
+        Set<Long> postIds = new TreeSet<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] > 0) {
+                postIds.add(drifted.get(i).postId());
+            }
+        }
+        long fixed = Arrays.stream(updated).filter(count -> count > 0).count();
+        fixedCounter.increment(fixed);
+        if (!postIds.isEmpty()) {
+            publishFixed(contentsType, postIds);
+        }
+        log.warn("{} 좋아요 수 불일치 {}건 수정 (id {} ~ {})", contentsType, fixed,
+                rows.get(0).id(), rows.get(rows.size() - 1).id());
+        return fixed;
+    }
+
+    // 좋아요 수를 바로잡은 게시물의 캐시와 ETag 가 갱신되도록 - 게시물 좋아요는 updated_at, 댓글 좋아요는 게시물의 댓글 버전
+    private void publishFixed(ContentsTypeEnum contentsType, Set<Long> postIds) {
+        if (contentsType == ContentsTypeEnum.POST) {
+            eventPublisher.publishEvent(PostCountReconciledEvent.of(PostCountReconciledEvent.Counter.POST_LIKE, postIds));
+            return;
+        }
+        List<Long> ids = new ArrayList<>(postIds);
+        jdbcTemplate.batchUpdate(UPDATE_COMMENT_VERSION_SQL, ids, ids.size(), (ps, postId) -> ps.setLong(1, postId));
+        eventPublisher.publishEvent(PostCountReconciledEvent.of(PostCountReconciledEvent.Counter.COMMENT_LIKE, postIds));
+    }
+}
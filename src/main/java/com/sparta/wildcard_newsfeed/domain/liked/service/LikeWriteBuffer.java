@@ -0,0 +1,350 @@
+package com.sparta.wildcard_newsfeed.domain.liked.service;
+
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikedChangedEvent;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 좋아요/취소 요청을 메모리에 모았다가 주기적으로 JDBC batch 로 반영 (write-behind)
+ * 같은 (사용자, 컨텐츠)에 대한 요청은 마지막 상태만 남기고, 반영 시점의 DB 상태와 비교해서 실제로 바뀐 것만 쓰고 좋아요 수를 증감
+ * 대기 중인 요청이 가득 차면 offer 가 REJECTED 를 반환하고 호출한 쪽이 바로 DB 에 반영
+ * 대기 중 / 반영 중 / 좋아요 비트맵 순으로 현재 상태를 확인해서 중복 좋아요, 없는 좋아요 취소는 대기열에 넣지 않음 (동기 방식과 같은 응답)
+ * - 요청마다 DB 를 읽지 않음, 비트맵이 다른 인스턴스의 변경을 아직 모르더라도 반영 시점에 DB 와 다시 비교하므로 좋아요 수는 어긋나지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeWriteBuffer {
+
+    private static final String INSERT_SQL =
+            "insert ignore into liked (user_id, contents_id, content_type, created_at, updated_at) values (?, ?, ?, ?, ?)";
+    private static final String DELETE_SQL =
+            "delete from liked where user_id = ? and contents_id = ? and content_type = ?";
+    private static final String UPDATE_POST_SQL =
+            "update post set like_count = like_count + ?, like_version = like_version + ?, updated_at = ? where id = ?";
+    private static final String UPDATE_COMMENT_SQL =
+            "update comment set like_count = like_count + ?, like_version = like_version + ?, updated_at = ? where id = ?";
+    private static final String UPDATE_COMMENT_VERSION_SQL =
+            "update post set comment_version = comment_version + 1 where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final LikerBitmapIndex likerBitmapIndex;
+
+    @Value("${newsfeed.like.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${newsfeed.like.write-behind.max-pending:100000}")
+    private int maxPending;
+
+    @Value("${newsfeed.like.write-behind.batch-size:1000}")
+    private int batchSize;
+
+    private final Map<LikeKey, PendingLike> pending = new ConcurrentHashMap<>();
+    // 대기열에서 꺼냈지만 아직 커밋되지 않은 요청 - 그 사이 상태 확인은 여기서
+    private final Map<LikeKey, PendingLike> inFlight = new ConcurrentHashMap<>();
+    // offer 는 읽기 잠금, 종료는 쓰기 잠금 - 종료 후에 대기열에 들어가서 유실되는 요청이 없도록
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+
+    public enum OfferResult {
+        ACCEPTED,   // 대기열에 넣음
+        UNCHANGED,  // 이미 좋아요 상태 (동기 방식의 insert ignore 와 같이 아무것도 바뀌지 않음)
+        NOT_LIKED,  // 좋아요하지 않은 컨텐츠의 취소
+        REJECTED    // 비활성화, 종료 중, 대기열 가득 참 - 호출한 쪽이 바로 DB 에 반영
+    }
+
+    public record LikeKey(Long userId, Long contentsId, ContentsTypeEnum contentsType) {
+    }
+
+    // liked: 최종적으로 원하는 상태, postId: 이벤트에 실을 대상 게시물
+    public record PendingLike(boolean liked, Long postId) {
+    }
+
+    private record ContentsKey(Long contentsId, ContentsTypeEnum contentsType) {
+    }
+
+    // delta: 좋아요 수 증감, changed: 실제로 추가/삭제한 행 수 (좋아요 버전 증가량)
+    private record LikeCountChange(long delta, int changed) {
+    }
+
+    @PostConstruct
+    void registerMetrics() {
+        meterRegistry.gaugeMapSize("like.buffer.pending", List.of(), pending);
+    }
+
+    public boolean isEnabled() {
+        return enabled && !closed;
+    }
+
+    public OfferResult offer(LikeKey key, PendingLike change) {
+        closeLock.readLock().lock();
+        try {
+            if (!isEnabled()) {
+                return OfferResult.REJECTED;
+            }
+            while (true) {
+                PendingLike existing = pending.get(key);
+                boolean liked = existing != null ? existing.liked() : isStoredLiked(key);
+                if (liked == change.liked()) {
+                    return liked ? OfferResult.UNCHANGED : OfferResult.NOT_LIKED;
+                }
+                if (existing == null) {
+                    // 이미 대기 중인 키는 덮어쓰기만 하므로 용량 확인은 새 키일 때만
+                    if (pending.size() >= maxPending) {
+                        return OfferResult.REJECTED;
+                    }
+                    if (pending.putIfAbsent(key, change) == null) {
+                        return OfferResult.ACCEPTED;
+                    }
+                } else if (pending.replace(key, existing, change)) {
+                    return OfferResult.ACCEPTED;
+                }
+                // 그 사이 같은 키의 요청이 바뀌었으면 다시 확인
+            }
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    // 반영 중인 요청이 있으면 그 상태, 없으면 좋아요 비트맵 (반영 중 표시는 커밋 후 비트맵 갱신까지 끝난 뒤에 지움)
+    private boolean isStoredLiked(LikeKey key) {
+        PendingLike flushing = inFlight.get(key);
+        if (flushing != null) {
+            return flushing.liked();
+        }
+        return likerBitmapIndex.contains(new LikerBitmapIndex.ContentsKey(key.contentsId(), key.contentsType()), key.userId());
+    }
+
+    @Scheduled(fixedDelayString = "${newsfeed.like.write-behind.flush-ms:200}")
+    public void scheduledFlush() {
+        if (enabled) {
+            flush();
+        }
+    }
+
+    // 종료 시 남은 요청을 모두 반영 (DataSource 보다 먼저 정리됨)
+    @PreDestroy
+    public void shutdown() {
+        closeLock.writeLock().lock();
+        try {
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        while (!pending.isEmpty()) {
+            if (flush() == 0) {
+                log.error("종료 중 좋아요 반영 실패, 유실 건수: {}", pending.size());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 호출 시점에 대기 중인 요청을 batch-size 단위로 나눠서 반영, 반영한 요청 수 반환
+     */
+    public synchronized int flush() {
+        int flushed = 0;
+        int remaining = pending.size();
+        while (remaining > 0) {
+            Map<LikeKey, PendingLike> batch = drain();
+            if (batch.isEmpty()) {
+                break;
+            }
+            remaining -= batch.size();
+            try {
+                Timer.Sample sample = Timer.start(meterRegistry);
+                transactionTemplate.executeWithoutResult(status -> apply(batch));
+                sample.stop(meterRegistry.timer("like.buffer.flush"));
+                flushed += batch.size();
+            } catch (RuntimeException e) {
+                // 그 사이 들어온 더 최신 요청은 덮어쓰지 않고 다시 대기열로
+                log.error("좋아요 반영 실패, 다음 주기에 재시도: {}건", batch.size(), e);
+                batch.forEach(pending::putIfAbsent);
+                break;
+            } finally {
+                batch.forEach(inFlight::remove);
+            }
+        }
+        return flushed;
+    }
+
+    private Map<LikeKey, PendingLike> drain() {
+        Map<LikeKey, PendingLike> batch = new HashMap<>();
+        Iterator<LikeKey> keys = pending.keySet().iterator();
+        while (keys.hasNext() && batch.size() < batchSize) {
+            LikeKey key = keys.next();
+            PendingLike change = pending.get(key);
+            if (change == null) {
+                continue;
+            }
+            // 대기열에서 빼기 전에 반영 중으로 옮겨서 상태 확인에 빈틈이 없도록
+            inFlight.put(key, change);
+            if (pending.remove(key, change)) {
+                batch.put(key, change);
+            } else {
+                // 그 사이 더 최신 요청으로 바뀜 - 다음 배치에서 반영
+                inFlight.remove(key, change);
+            }
+        }
+        return batch;
+    }
+
+    private void apply(Map<LikeKey, PendingLike> batch) {
+        Map<ContentsKey, List<LikeKey>> byContents = new HashMap<>();
+        batch.keySet().forEach(key ->
+                byContents.computeIfAbsent(new ContentsKey(key.contentsId(), key.contentsType()), k -> new ArrayList<>()).add(key));
+
+        List<LikeKey> inserts = new ArrayList<>();
+        List<LikeKey> deletes = new ArrayList<>();
+        Map<ContentsKey, LikeCountChange> changes = new HashMap<>();
+
+        // 컨텐츠별로 현재 좋아요 상태를 한 번에 조회해서 실제로 바뀌는 것만 골라냄
+        byContents.forEach((contents, keys) -> {
+            Set<Long> likedUserIds = findLikedUserIds(contents, keys);
+            long delta = 0;
+            int changed = 0;
+            for (LikeKey key : keys) {
+                boolean liked = batch.get(key).liked();
+                boolean exists = likedUserIds.contains(key.userId());
+                if (liked && !exists) {
+                    inserts.add(key);
+                    delta++;
+                    changed++;
+                } else if (!liked && exists) {
+                    deletes.add(key);
+                    delta--;
+                    changed++;
+                }
+            }
+            // 추가 1건 + 취소 1건처럼 좋아요 수가 그대로여도 좋아요 버전은 변경 건수만큼 증가
+            if (changed > 0) {
+                changes.put(contents, new LikeCountChange(delta, changed));
+            }
+        });
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts, inserts.size(), (ps, key) -> {
+                ps.setLong(1, key.userId());
+                ps.setLong(2, key.contentsId());
+                ps.setString(3, key.contentsType().name());
+                ps.setTimestamp(4, now);
+                ps.setTimestamp(5, now);
+            });
+        }
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, deletes, deletes.size(), (ps, key) -> {
+                ps.setLong(1, key.userId());
+                ps.setLong(2, key.contentsId());
+                ps.setString(3, key.contentsType().name());
+            });
+        }
+        updateLikeCounts(changes, ContentsTypeEnum.POST, UPDATE_POST_SQL, now);
+        updateLikeCounts(changes, ContentsTypeEnum.COMMENT, UPDATE_COMMENT_SQL, now);
+        updateCommentVersions(inserts, deletes, batch);
+
+        // 커밋 후 캐시 제거 등 기존 리스너가 그대로 동작하도록 실제 반영된 건만 이벤트 발행
+        // 컨텐츠별 좋아요 버전은 이번 변경 건수만큼 증가했으므로 (최종 버전 - 건수 + 1) 부터 이벤트마다 하나씩 부여
+        Map<ContentsKey, Long> nextVersions = findFirstLikeVersions(changes);
+        inserts.forEach(key -> publish(key, batch.get(key), nextVersions));
+        deletes.forEach(key -> publish(key, batch.get(key), nextVersions));
+        log.debug("좋아요 반영: 요청 {}건, 추가 {}건, 취소 {}건", batch.size(), inserts.size(), deletes.size());
+    }
+
+    private Set<Long> findLikedUserIds(ContentsKey contents, List<LikeKey> keys) {
+        String placeholders = String.join(", ", Collections.nCopies(keys.size(), "?"));
+        List<Object> params = new ArrayList<>();
+        params.add(contents.contentsId());
+        params.add(contents.contentsType().name());
+        keys.forEach(key -> params.add(key.userId()));
+        return new HashSet<>(jdbcTemplate.queryForList(
+                "select user_id from liked where contents_id = ? and content_type = ? and user_id in (" + placeholders + ")",
+                Long.class, params.toArray()));
+    }
+
+    private void updateLikeCounts(Map<ContentsKey, LikeCountChange> changes, ContentsTypeEnum contentsType, String sql, Timestamp now) {
+        List<Map.Entry<ContentsKey, LikeCountChange>> targets = changes.entrySet().stream()
+                .filter(entry -> entry.getKey().contentsType() == contentsType)
+                .toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, targets, targets.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getValue().delta());
+            ps.setLong(2, entry.getValue().changed());
+            ps.setTimestamp(3, now);
+            ps.setLong(4, entry.getKey().contentsId());
+        });
+    }
+
+    // 같은 트랜잭션에서 방금 증가시킨 행을 읽으므로 다른 변경이 끼어들지 않은 값
+    private Map<ContentsKey, Long> findFirstLikeVersions(Map<ContentsKey, LikeCountChange> changes) {
+        Map<ContentsKey, Long> firstVersions = new HashMap<>();
+        for (ContentsTypeEnum contentsType : ContentsTypeEnum.values()) {
+            List<Long> ids = changes.keySet().stream()
+                    .filter(key -> key.contentsType() == contentsType)
+                    .map(ContentsKey::contentsId)
+                    .toList();
+            if (ids.isEmpty()) {
+                continue;
+            }
+            String table = contentsType == ContentsTypeEnum.POST ? "post" : "comment";
+            String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+            jdbcTemplate.query("select id, like_version from " + table + " where id in (" + placeholders + ")",
+                    (RowCallbackHandler) rs -> {
+                        ContentsKey key = new ContentsKey(rs.getLong(1), contentsType);
+                        firstVersions.put(key, rs.getLong(2) - changes.get(key).changed() + 1);
+                    }, ids.toArray());
+        }
+        return firstVersions;
+    }
+
+    // 댓글 좋아요가 바뀐 게시물의 댓글 버전 증가 (게시물 상세 ETag)
+    private void updateCommentVersions(List<LikeKey> inserts, List<LikeKey> deletes, Map<LikeKey, PendingLike> batch) {
+        List<Long> postIds = Stream.concat(inserts.stream(), deletes.stream())
+                .filter(key -> key.contentsType() == ContentsTypeEnum.COMMENT)
+                .map(key -> batch.get(key).postId())
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toList();
+        if (postIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPDATE_COMMENT_VERSION_SQL, postIds, postIds.size(),
+                (ps, postId) -> ps.setLong(1, postId));
+    }
+
+    private void publish(LikeKey key, PendingLike change, Map<ContentsKey, Long> nextVersions) {
+        ContentsKey contents = new ContentsKey(key.contentsId(), key.contentsType());
+        Long likeVersion = nextVersions.get(contents);
+        if (likeVersion != null) {
+            nextVersions.put(contents, likeVersion + 1);
+        }
+        eventPublisher.publishEvent(LikedChangedEvent.of(key.userId(), key.contentsId(), key.contentsType(),
+                change.postId(), change.liked(), likeVersion));
+    }
+}
@@ -1,13 +1,10 @@
 package com.sparta.wildcard_newsfeed.domain.liked.service;
 
-import com.sparta.wildcard_newsfeed.domain.comment.entity.Comment;
 import com.sparta.wildcard_newsfeed.domain.comment.repository.CommentRepository;
-import com.sparta.wildcard_newsfeed.domain.liked.dto.LikedRequestDto;
-import com.sparta.wildcard_newsfeed.domain.liked.dto.LikedResponseDto;
+import com.sparta.wildcard_newsfeed.domain.follow.repository.FollowRepository;
+import com.sparta.wildcard_newsfeed.domain.liked.dto.*;
 import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
-import com.sparta.wildcard_newsfeed.domain.liked.entity.Liked;
 import com.sparta.wildcard_newsfeed.domain.liked.repository.LikedRepository;
-import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
 import com.sparta.wildcard_newsfeed.domain.post.repository.PostRepository;
 import com.sparta.wildcard_newsfeed.domain.user.entity.User;
 import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
@@ -15,9 +12,14 @@ import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -27,66 +29,145 @@ public class LikedService {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LikeWriteBuffer likeWriteBuffer;
+    private final LikerBitmapIndex likerBitmapIndex;
+    private final FollowRepository followRepository;
 
     @Transactional
     public LikedResponseDto addLike(LikedRequestDto requestDto, AuthenticationUser user) {
-        User currentUser = userRepository.findByUsercode(user.getUsername())
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long currentUserId = findCurrentUserId(user);
 
-        Optional<Liked> existingLike = likedRepository.findByUserIdAndContentsIdAndContentsType(currentUser.getId(), requestDto.getContentsId(), requestDto.getContentsType());
+        // 본인이 작성한 게시물이나 댓글에 좋아요를 남길 수 없습니다.
+        Long postId = findTargetPostId(requestDto, currentUserId, true);
 
-        if (existingLike.isPresent()) {
-            throw new IllegalArgumentException("이미 좋아요를 눌렀습니다.");
+        // write-behind 모드 - 대기열에 넣은 뒤 바로 응답 (이미 좋아요 상태면 동기 방식처럼 아무것도 바뀌지 않음)
+        LikeWriteBuffer.OfferResult offered =
+                likeWriteBuffer.offer(toLikeKey(requestDto, currentUserId), new LikeWriteBuffer.PendingLike(true, postId));
+        if (offered != LikeWriteBuffer.OfferResult.REJECTED) {
+            return new LikedResponseDto(requestDto.getContentsId(), requestDto.getContentsType());
         }
 
-        // 본인이 작성한 게시물이나 댓글에 좋아요를 남길 수 없습니다.
-        // POST
-        if (requestDto.getContentsType() == ContentsTypeEnum.POST) {
-            Post post = postRepository.findById(requestDto.getContentsId())
-                    .orElseThrow(() -> new IllegalArgumentException("게시물을 찾을 수 없습니다."));
-            if (post.getUser().getId().equals(currentUser.getId())) {
-                throw new IllegalArgumentException("본인이 작성한 게시물에는 좋아요를 남길 수 없습니다.");
-            }
-            post.setLikeCount(post.getLikeCount() + 1); //변경 감지 -> 따로 save 필요없다.
-        }
-        //COMMENT
-        else if (requestDto.getContentsType() == ContentsTypeEnum.COMMENT) {
-            Comment comment = commentRepository.findById(requestDto.getContentsId())
-                    .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
-            if (comment.getUser().getId().equals(currentUser.getId())) {
-                throw new IllegalArgumentException("본인이 작성한 댓글에는 좋아요를 남길 수 없습니다.");
-            }
-            comment.setLikeCount(comment.getLikeCount() + 1);
-        }
+        // 중복 확인 조회 없이 한 번에 추가 - 이미 좋아요를 눌렀으면(재시도, 더블 클릭) 아무것도 바뀌지 않음
+        int inserted = likedRepository.insertIgnore(currentUserId, requestDto.getContentsId(),
+                requestDto.getContentsType().name(), LocalDateTime.now());
+
+        if (inserted > 0) {
+            // 좋아요 수 증가는 트랜잭션 마지막에 원자적으로 (행 잠금 시간 최소화)
+            Long likeVersion = changeLikeCount(requestDto.getContentsType(), requestDto.getContentsId(), postId, 1);
 
-        Liked liked = new Liked(currentUser, requestDto.getContentsId(), requestDto.getContentsType());
-        likedRepository.save(liked);
+            eventPublisher.publishEvent(LikedChangedEvent.of(currentUserId, requestDto.getContentsId(), requestDto.getContentsType(), postId, true, likeVersion));
+        }
 
-        return new LikedResponseDto(liked);
+        return new LikedResponseDto(requestDto.getContentsId(), requestDto.getContentsType());
     }
 
     @Transactional
     public void removeLike(LikedRequestDto requestDto, AuthenticationUser user) {
-        User currentUser = userRepository.findByUsercode(user.getUsername())
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        Long currentUserId = findCurrentUserId(user);
+
+        Long postId = findTargetPostId(requestDto, currentUserId, false);
 
-        Liked existingLike = likedRepository.findByUserIdAndContentsIdAndContentsType(currentUser.getId(), requestDto.getContentsId(), requestDto.getContentsType())
-                .orElseThrow(() -> new IllegalArgumentException("좋아요가 존재하지 않습니다."));
+        LikeWriteBuffer.OfferResult offered =
+                likeWriteBuffer.offer(toLikeKey(requestDto, currentUserId), new LikeWriteBuffer.PendingLike(false, postId));
+        if (offered == LikeWriteBuffer.OfferResult.NOT_LIKED) {
+            throw new IllegalArgumentException("좋아요가 존재하지 않습니다.");
+        }
+        if (offered == LikeWriteBuffer.OfferResult.ACCEPTED) {
+            return;
+        }
+
+        int deleted = likedRepository.deleteByUserIdAndContents(currentUserId, requestDto.getContentsId(), requestDto.getContentsType());
+        if (deleted == 0) {
+            throw new IllegalArgumentException("좋아요가 존재하지 않습니다.");
+        }
 
         // 좋아요 수 감소
+        Long likeVersion = changeLikeCount(requestDto.getContentsType(), requestDto.getContentsId(), postId, -1);
+
+        eventPublisher.publishEvent(LikedChangedEvent.of(currentUserId, requestDto.getContentsId(), requestDto.getContentsType(), postId, false, likeVersion));
+    }
+
+    // 좋아요한 사용자 목록 - ID 순 커서 페이징
+    public LikerPageResponseDto getLikers(ContentsTypeEnum contentsType, Long contentsId, Long cursor, int size) {
+        LikerBitmapIndex.ContentsKey key = new LikerBitmapIndex.ContentsKey(contentsId, contentsType);
+        List<Long> likerIds = likerBitmapIndex.findLikerIds(key, cursorOf(cursor), size + 1);
+        return toLikerPage(likerBitmapIndex.count(key), likerIds, size);
+    }
+
+    // 내가 팔로우하는 사람 중 좋아요한 사용자 목록
+    public LikerPageResponseDto getFollowingLikers(ContentsTypeEnum contentsType, Long contentsId, AuthenticationUser user, Long cursor, int size) {
+        Long currentUserId = findCurrentUserId(user);
+
+        RoaringBitmap followingLikers = likerBitmapIndex.intersect(
+                new LikerBitmapIndex.ContentsKey(contentsId, contentsType),
+                followRepository.findFollowingIds(currentUserId));
+        List<Long> likerIds = LikerBitmapIndex.page(followingLikers, cursorOf(cursor), size + 1);
+        return toLikerPage(followingLikers.getLongCardinality(), likerIds, size);
+    }
+
+    private long cursorOf(Long cursor) {
+        return cursor == null ? -1 : cursor;
+    }
+
+    // 한 건 더 조회한 결과로 다음 페이지 존재 여부 판단, 이름은 IN 조회 한 번으로 채움
+    private LikerPageResponseDto toLikerPage(long totalCount, List<Long> likerIds, int size) {
+        boolean hasNext = likerIds.size() > size;
+        List<Long> pageIds = hasNext ? likerIds.subList(0, size) : likerIds;
+
+        Map<Long, String> names = userRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(User::getId, User::getName));
+        List<LikerResponseDto> likers = pageIds.stream()
+                .filter(names::containsKey)
+                .map(userId -> new LikerResponseDto(userId, names.get(userId)))
+                .toList();
+
+        return new LikerPageResponseDto(totalCount, likers, hasNext ? pageIds.get(pageIds.size() - 1) : null);
+    }
+
+    // 좋아요 처리에는 사용자 ID 만 필요 - 사용자 행 전체(비밀번호, 리프레시 토큰 등)를 읽지 않음
+    private Long findCurrentUserId(AuthenticationUser user) {
+        return userRepository.findIdByUsercode(user.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+    }
+
+    // 좋아요 대상이 존재하는지 확인하고 대상이 속한 게시물 ID 반환 (댓글이면 댓글이 달린 게시물)
+    private Long findTargetPostId(LikedRequestDto requestDto, Long currentUserId, boolean checkWriter) {
         // POST
         if (requestDto.getContentsType() == ContentsTypeEnum.POST) {
-            Post post = postRepository.findById(requestDto.getContentsId())
+            LikeTargetDto target = postRepository.findLikeTargetById(requestDto.getContentsId())
                     .orElseThrow(() -> new IllegalArgumentException("게시물을 찾을 수 없습니다."));
-            post.setLikeCount(post.getLikeCount() - 1);
+            if (checkWriter && target.writerId().equals(currentUserId)) {
+                throw new IllegalArgumentException("본인이 작성한 게시물에는 좋아요를 남길 수 없습니다.");
+            }
+            return target.postId();
         }
-        // COMMENT
-        else if (requestDto.getContentsType() == ContentsTypeEnum.COMMENT) {
-            Comment comment = commentRepository.findById(requestDto.getContentsId())
+        //COMMENT
+        if (requestDto.getContentsType() == ContentsTypeEnum.COMMENT) {
+            LikeTargetDto target = commentRepository.findLikeTargetById(requestDto.getContentsId())
                     .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다."));
-            comment.setLikeCount(comment.getLikeCount() - 1);
+            if (checkWriter && target.writerId().equals(currentUserId)) {
+                throw new IllegalArgumentException("본인이 작성한 댓글에는 좋아요를 남길 수 없습니다.");
+            }
+            return target.postId();
         }
+        return null;
+    }
 
-        likedRepository.delete(existingLike);
+    private LikeWriteBuffer.LikeKey toLikeKey(LikedRequestDto requestDto, Long currentUserId) {
+        return new LikeWriteBuffer.LikeKey(currentUserId, requestDto.getContentsId(), requestDto.getContentsType());
+    }
+
+    // 읽고 더해서 저장하면 동시 요청 시 갱신이 유실되므로 DB 에서 상대값으로 갱신
+    // 댓글 좋아요는 게시물 상세 ETag 가 바뀌도록 게시물의 댓글 버전도 증가
+    // 반환: 변경 후 컨텐츠의 좋아요 버전 (좋아요 사용자 비트맵이 빠진 변경 없이 순서대로 반영하는지 확인하는 용도)
+    private Long changeLikeCount(ContentsTypeEnum contentsType, Long contentsId, Long postId, long delta) {
+        if (contentsType == ContentsTypeEnum.POST) {
+            postRepository.updateLikeCount(contentsId, delta, LocalDateTime.now());
+            return postRepository.findLikeVersionById(contentsId).orElse(null);
+        }
+        commentRepository.updateLikeCount(contentsId, delta, LocalDateTime.now());
+        postRepository.increaseCommentVersion(postId);
+        return commentRepository.findLikeVersionById(contentsId).orElse(null);
     }
-}
\ No newline at end of file
+}
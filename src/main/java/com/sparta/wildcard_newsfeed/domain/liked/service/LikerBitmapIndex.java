@@ -0,0 +1,280 @@
+package com.sparta.wildcard_newsfeed.domain.liked.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikedChangedEvent;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 컨텐츠(게시물/댓글)별 좋아요한 사용자 ID 를 압축 비트맵(roaring bitmap)으로 메모리에 유지
+ * 좋아요 여부, 좋아요 수, 좋아요한 사용자 목록(ID 순 커서), 팔로우 목록과의 교집합을 DB 조회 없이 계산
+ * - 비트맵마다 반영한 좋아요 버전(post/comment.like_version, liked 행 추가/삭제마다 증가)을 함께 유지
+ * - 처음 조회할 때 스냅샷을 불러오고, 스냅샷이 없거나 버전이 현재 버전과 다르면 liked 테이블에서 다시 생성
+ * - 이후에는 좋아요 변경 이벤트(커밋 후)로 갱신 - 이벤트의 버전이 바로 다음 버전이 아니면(놓친 변경) 비트맵을 버리고 다시 불러옴
+ * - 변경된 비트맵은 주기적으로, 메모리에서 밀려날 때, 종료할 때 스냅샷 저장
+ * 사용자 ID 는 int 범위라고 가정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikerBitmapIndex {
+
+    private static final String SELECT_SNAPSHOT_SQL =
+            "select bitmap, like_version from liker_bitmap_snapshot where contents_id = ? and content_type = ?";
+    private static final String SELECT_LIKERS_SQL =
+            "select user_id from liked where contents_id = ? and content_type = ?";
+    private static final String SELECT_POST_LIKE_VERSION_SQL = "select like_version from post where id = ?";
+    private static final String SELECT_COMMENT_LIKE_VERSION_SQL = "select like_version from comment where id = ?";
+    // 밀려난 비트맵 저장과 주기적 저장이 겹쳐도 더 오래된 버전으로 덮어쓰지 않음 (like_version 은 마지막에 갱신)
+    private static final String UPSERT_SNAPSHOT_SQL =
+            "insert into liker_bitmap_snapshot (contents_id, content_type, bitmap, cardinality, like_version, created_at, updated_at) " +
+                    "values (?, ?, ?, ?, ?, ?, ?) " +
+                    "on duplicate key update " +
+                    "bitmap = case when values(like_version) > like_version then values(bitmap) else bitmap end, " +
+                    "cardinality = case when values(like_version) > like_version then values(cardinality) else cardinality end, " +
+                    "updated_at = case when values(like_version) > like_version then values(updated_at) else updated_at end, " +
+                    "like_version = greatest(like_version, values(like_version))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${newsfeed.like.bitmap.max-size:100000}")
+    private long maxSize;
+
+    // 캐시 유지 작업과 밀려난 비트맵 저장을 실행할 executor
+    private Executor executor = ForkJoinPool.commonPool();
+
+    private Cache<ContentsKey, LikerBitmap> bitmaps;
+    private TransactionTemplate loadTransaction;
+
+    public record ContentsKey(Long contentsId, ContentsTypeEnum contentsType) {
+    }
+
+    @PostConstruct
+    void init() {
+        // 메모리에서 밀려난 비트맵은 변경된 것만 저장하고, 다음 조회 때 스냅샷 또는 liked 테이블에서 다시 불러옴
+        bitmaps = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .executor(executor)
+                .removalListener((ContentsKey key, LikerBitmap likers, RemovalCause cause) -> {
+                    if (cause.wasEvicted() && key != null && likers != null) {
+                        saveSnapshots(Map.of(key, likers));
+                    }
+                })
+                .build();
+
+        // 좋아요 버전과 liked 행을 같은 시점(repeatable read)으로 읽어서, 다시 생성한 비트맵의 버전이 내용과 일치하도록
+        loadTransaction = new TransactionTemplate(transactionManager);
+        loadTransaction.setReadOnly(true);
+        loadTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    // 메모리에 올라와 있는 비트맵만 갱신 (불러오는 중이면 끝날 때까지 기다렸다가 반영)
+    @TransactionalEventListener
+    public void onLikedChanged(LikedChangedEvent event) {
+        ContentsKey key = new ContentsKey(event.getContentsId(), event.getContentsType());
+        bitmaps.asMap().computeIfPresent(key, (k, likers) ->
+                likers.apply(Math.toIntExact(event.getUserId()), event.isLiked(), event.getLikeVersion()) ? likers : null);
+    }
+
+    public boolean contains(ContentsKey key, long userId) {
+        return get(key).contains(Math.toIntExact(userId));
+    }
+
+    public long count(ContentsKey key) {
+        return get(key).cardinality();
+    }
+
+    // cursor(사용자 ID)보다 큰 ID 를 오름차순으로 size 개
+    public List<Long> findLikerIds(ContentsKey key, long cursor, int size) {
+        return get(key).page(cursor, size);
+    }
+
+    // 주어진 사용자 중 좋아요한 사용자 (예: 내가 팔로우하는 사람 중 좋아요한 사람)
+    public RoaringBitmap intersect(ContentsKey key, Collection<Long> userIds) {
+        RoaringBitmap users = new RoaringBitmap();
+        userIds.forEach(userId -> users.add(Math.toIntExact(userId)));
+        return get(key).and(users);
+    }
+
+    public static List<Long> page(RoaringBitmap bitmap, long cursor, int size) {
+        List<Long> ids = new ArrayList<>(size);
+        PeekableIntIterator iterator = bitmap.getIntIterator();
+        if (cursor >= 0) {
+            iterator.advanceIfNeeded(Math.toIntExact(cursor + 1));
+        }
+        while (iterator.hasNext() && ids.size() < size) {
+            ids.add((long) iterator.next());
+        }
+        return ids;
+    }
+
+    // 변경된 비트맵만 upsert
+    @Scheduled(fixedDelayString = "${newsfeed.like.bitmap.snapshot-ms:60000}")
+    public void snapshot() {
+        int saved = saveSnapshots(bitmaps.asMap());
+        if (saved > 0) {
+            log.info("좋아요 비트맵 스냅샷 저장: {}건", saved);
+        }
+    }
+
+    // 종료 시 아직 저장하지 않은 변경을 저장 (다음 시작 때 liked 테이블에서 다시 생성하지 않도록)
+    @PreDestroy
+    public void shutdown() {
+        snapshot();
+    }
+
+    private int saveSnapshots(Map<ContentsKey, LikerBitmap> targets) {
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        targets.forEach((key, likers) -> {
+            Snapshot snapshot = likers.snapshotIfDirty();
+            if (snapshot != null) {
+                rows.add(new Object[]{key.contentsId(), key.contentsType().name(), snapshot.bitmap(),
+                        snapshot.cardinality(), snapshot.version(), now, now});
+            }
+        });
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SNAPSHOT_SQL, rows);
+        } catch (RuntimeException e) {
+            // 저장하지 못한 비트맵은 다음에 불러올 때 버전이 달라서 liked 테이블에서 다시 생성됨
+            log.error("좋아요 비트맵 스냅샷 저장 실패: {}건", rows.size(), e);
+            return 0;
+        }
+        return rows.size();
+    }
+
+    private LikerBitmap get(ContentsKey key) {
+        return bitmaps.get(key, k -> loadTransaction.execute(status -> load(k)));
+    }
+
+    private LikerBitmap load(ContentsKey key) {
+        String versionSql = key.contentsType() == ContentsTypeEnum.POST ? SELECT_POST_LIKE_VERSION_SQL : SELECT_COMMENT_LIKE_VERSION_SQL;
+        List<Long> likeVersions = jdbcTemplate.queryForList(versionSql, Long.class, key.contentsId());
+        if (likeVersions.isEmpty()) {
+            return new LikerBitmap(new RoaringBitmap(), 0, false);
+        }
+        long likeVersion = likeVersions.get(0);
+
+        List<RoaringBitmap> snapshots = jdbcTemplate.query(SELECT_SNAPSHOT_SQL,
+                (rs, rowNum) -> rs.getLong("like_version") == likeVersion ? deserialize(rs.getBytes("bitmap")) : null,
+                key.contentsId(), key.contentsType().name());
+        if (!snapshots.isEmpty() && snapshots.get(0) != null) {
+            return new LikerBitmap(snapshots.get(0), likeVersion, false);
+        }
+
+        // 스냅샷이 없거나 오래됨 - (contents_id, content_type, user_id) 인덱스로 다시 생성
+        RoaringBitmap bitmap = new RoaringBitmap();
+        jdbcTemplate.queryForList(SELECT_LIKERS_SQL, Long.class, key.contentsId(), key.contentsType().name())
+                .forEach(userId -> bitmap.add(Math.toIntExact(userId)));
+        bitmap.runOptimize();
+        return new LikerBitmap(bitmap, likeVersion, true);
+    }
+
+    private static RoaringBitmap deserialize(byte[] bytes) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        try {
+            bitmap.deserialize(ByteBuffer.wrap(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bitmap;
+    }
+
+    private record Snapshot(byte[] bitmap, long cardinality, long version) {
+    }
+
+    /**
+     * RoaringBitmap 은 thread-safe 하지 않으므로 비트맵 하나 단위로 동기화
+     */
+    private static final class LikerBitmap {
+        private final RoaringBitmap bitmap;
+        private long version; // 반영한 좋아요 버전
+        private boolean dirty; // 마지막 스냅샷 이후 변경 여부
+
+        private LikerBitmap(RoaringBitmap bitmap, long version, boolean dirty) {
+            this.bitmap = bitmap;
+            this.version = version;
+            this.dirty = dirty;
+        }
+
+        // false 면 사이의 변경을 놓친 것(이벤트 순서가 바뀌었거나 버전을 모름) - 비트맵을 버리고 다시 불러와야 함
+        synchronized boolean apply(int userId, boolean liked, Long likeVersion) {
+            if (likeVersion == null) {
+                return false;
+            }
+            // 불러올 때 이미 반영된 변경
+            if (likeVersion <= version) {
+                return true;
+            }
+            if (likeVersion != version + 1) {
+                return false;
+            }
+            if (liked) {
+                bitmap.add(userId);
+            } else {
+                bitmap.remove(userId);
+            }
+            version = likeVersion;
+            dirty = true;
+            return true;
+        }
+
+        synchronized boolean contains(int userId) {
+            return bitmap.contains(userId);
+        }
+
+        synchronized long cardinality() {
+            return bitmap.getLongCardinality();
+        }
+
+        synchronized List<Long> page(long cursor, int size) {
+            return LikerBitmapIndex.page(bitmap, cursor, size);
+        }
+
+        synchronized RoaringBitmap and(RoaringBitmap other) {
+            return RoaringBitmap.and(bitmap, other);
+        }
+
+        synchronized Snapshot snapshotIfDirty() {
+            if (!dirty) {
+                return null;
+            }
+            bitmap.runOptimize();
+            ByteBuffer buffer = ByteBuffer.allocate(bitmap.serializedSizeInBytes());
+            bitmap.serialize(buffer);
+            dirty = false;
+            return new Snapshot(buffer.array(), bitmap.getLongCardinality(), version);
+        }
+    }
+}
@@ -1,31 +1,43 @@
 package com.sparta.wildcard_newsfeed.domain.post.controller;
 
-import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.wildcard_newsfeed.domain.comment.dto.PostWithCommentsResponseDto;
-import com.sparta.wildcard_newsfeed.domain.comment.service.CommentService;
 import com.sparta.wildcard_newsfeed.domain.common.CommonResponseDto;
 import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageRequestDto;
-import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostPagingTypeEnum;
 import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
 import com.sparta.wildcard_newsfeed.domain.post.dto.PostResponseDto;
 import com.sparta.wildcard_newsfeed.domain.post.repository.PostRepository;
+import com.sparta.wildcard_newsfeed.domain.post.service.PostDetailService;
+import com.sparta.wildcard_newsfeed.domain.post.service.PostETagService;
+import com.sparta.wildcard_newsfeed.domain.post.service.PostLikedByMeService;
 import com.sparta.wildcard_newsfeed.domain.post.service.PostService;
+import com.sparta.wildcard_newsfeed.domain.post.service.PostTopCommentsService;
+import com.sparta.wildcard_newsfeed.domain.post.service.PostViewCounter;
+import com.sparta.wildcard_newsfeed.domain.post.service.TrendingService;
 import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
+import com.sparta.wildcard_newsfeed.security.jwt.JwtConstants;
+import com.sparta.wildcard_newsfeed.util.ETagUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @Slf4j
@@ -36,7 +48,13 @@ import java.util.List;
 public class PostController {
 
     private final PostService postService;
-    private final CommentService commentService;
+    private final PostDetailService postDetailService;
+    private final PostETagService postETagService;
+    private final PostLikedByMeService postLikedByMeService;
+    private final TrendingService trendingService;
+    private final PostViewCounter postViewCounter;
+    private final PostTopCommentsService postTopCommentsService;
+    private final ObjectMapper objectMapper;
 
     // 게시물 등록
     @PostMapping
@@ -67,10 +85,18 @@ public class PostController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = CommonResponseDto.class)))
     })
-    public ResponseEntity<CommonResponseDto<Object>> findAll() {
+    public ResponseEntity<CommonResponseDto<Object>> findAll(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        String eTag = postETagService.getPostListETag();
+        if (ETagUtils.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+        }
+
         List<PostResponseDto> posts = postService.findAll();
 
         return ResponseEntity.ok()
+                .eTag(eTag)
                 .body(CommonResponseDto.builder()
                 .statusCode(HttpStatus.OK.value())
                         .message("게시물 전체 조회 성공")
@@ -78,6 +104,30 @@ public class PostController {
                         .build());
     }
 
+    // 게시물 전체 조회 (NDJSON 스트리밍, 게시물 수와 상관없이 메모리 사용량 일정)
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "게시물 전체 스트리밍 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "게시물 전체 스트리밍 조회 성공",
+                    content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = PostResponseDto.class)))
+    })
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        StreamingResponseBody body = outputStream ->
+                postService.streamAll(post -> {
+                    try {
+                        outputStream.write(objectMapper.writeValueAsBytes(post));
+                        outputStream.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
 //    // 게시물 단일 조회 + 해당 게시물에 달린 댓글 전체 조회
     @GetMapping("/{postId}")
     @Operation(summary = "게시물 단일 조회")
@@ -86,17 +136,27 @@ public class PostController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = CommonResponseDto.class)))
     })
-    public ResponseEntity<CommonResponseDto<PostWithCommentsResponseDto>> findById(@PathVariable(name = "postId") long id) {
-        // 게시물 단일 조회
-        PostResponseDto post = postService.findById(id);
-
-        // 해당 게시물에 달린 댓글 전체 조회
-        List<CommentResponseDto> comments = commentService.findAllCommentsByPostId(id);
+    public ResponseEntity<CommonResponseDto<PostWithCommentsResponseDto>> findById(
+            @AuthenticationPrincipal AuthenticationUser user,
+            @PathVariable(name = "postId") long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            HttpServletRequest request
+    ) {
+        // 클라이언트가 가진 버전과 같으면 본문 없이 304
+        String eTag = postETagService.getPostDetailETag(id, user);
+        // 조회수는 메모리에만 누적 (304 도 조회로 집계, 조회수 변화는 ETag 에 반영하지 않음)
+        postViewCounter.recordView(id, user != null ? user.getUsername() : "ip:" + request.getRemoteAddr());
+        if (ETagUtils.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(JwtConstants.ACCESS_TOKEN_HEADER).build();
+        }
 
-        // Post와 Comments를 하나의 객체로 병합
-        PostWithCommentsResponseDto postWithCommentsResponse = new PostWithCommentsResponseDto(post, comments);
+        // 게시물 + 작성자 + 미디어 + 첫 페이지 댓글을 한 번에 조회 후 로그인 사용자의 좋아요 여부 표시
+        PostWithCommentsResponseDto postWithCommentsResponse = postViewCounter.markDetail(
+                postLikedByMeService.markDetail(postDetailService.getPostDetail(id), user));
 
         return ResponseEntity.ok()
+                .eTag(eTag)
+                .varyBy(JwtConstants.ACCESS_TOKEN_HEADER)
                 .body(CommonResponseDto.<PostWithCommentsResponseDto>builder()
                         .statusCode(HttpStatus.OK.value())
                         .message("게시물 단일 조회, 댓글 조회 성공")
@@ -154,12 +214,39 @@ public class PostController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = CommonResponseDto.class)))
     })
-    public ResponseEntity<CommonResponseDto<Page<PostPageResponseDto>>> getPostPage(
-            @Valid @RequestBody PostPageRequestDto requestDto
+    public ResponseEntity<CommonResponseDto<Object>> getPostPage(
+            @AuthenticationPrincipal AuthenticationUser user,
+            @Valid @RequestBody PostPageRequestDto requestDto,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        Page<PostPageResponseDto> page = postService.getPostPage(requestDto);
+        // 조회 전용 POST 라서 412 대신 GET 과 동일하게 304 로 응답
+        String eTag = postETagService.getPostPageETag(requestDto, user);
+        if (ETagUtils.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).varyBy(JwtConstants.ACCESS_TOKEN_HEADER).build();
+        }
+
+        // 캐시된 페이지에 로그인 사용자의 좋아요 여부, 요청 시 댓글 미리보기 표시
+        // TRENDING 은 메모리에 유지 중인 인기 게시물 목록에서 바로 응답 (SQL 없음)
+        boolean trending = TrendingService.isTrending(requestDto);
+        int previewSize = requestDto.getCommentPreviewSize();
+        Object page;
+        if (requestDto.getPagingType() == PostPagingTypeEnum.CURSOR) {
+            page = postTopCommentsService.markPage(postLikedByMeService.markPage(trending
+                    ? trendingService.getTrendingCursorPage(requestDto)
+                    : postService.getPostCursorPage(requestDto), user), previewSize);
+        } else if (requestDto.getPagingType() == PostPagingTypeEnum.SLICE) {
+            page = postTopCommentsService.markPage(postLikedByMeService.markPage(trending
+                    ? trendingService.getTrendingSlicePage(requestDto)
+                    : postService.getPostSlicePage(requestDto), user), previewSize);
+        } else {
+            page = postTopCommentsService.markPage(postLikedByMeService.markPage(trending
+                    ? trendingService.getTrendingPage(requestDto)
+                    : postService.getPostPage(requestDto), user), previewSize);
+        }
         return ResponseEntity.ok()
-                .body(CommonResponseDto.<Page<PostPageResponseDto>>builder()
+                .eTag(eTag)
+                .varyBy(JwtConstants.ACCESS_TOKEN_HEADER)
+                .body(CommonResponseDto.builder()
                         .statusCode(HttpStatus.OK.value())
                         .message("게시물 페이지 조회 성공")
                         .data(page)
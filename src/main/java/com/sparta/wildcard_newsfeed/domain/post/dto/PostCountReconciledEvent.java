@@ -0,0 +1,32 @@
+package com.sparta.wildcard_newsfeed.domain.post.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Set;
+
+/**
+ * 보정 작업이 게시물/댓글 카운터를 바로잡았을 때 발행 - 보정은 chunk 마다 바로 커밋되므로 트랜잭션 밖에서 발행
+ */
+@Getter
+@ToString
+@Builder
+public class PostCountReconciledEvent {
+
+    public enum Counter {
+        POST_LIKE, // post.like_count
+        COMMENT_LIKE, // comment.like_count (postIds 는 댓글이 달린 게시물)
+        COMMENT_COUNT // post.comment_count
+    }
+
+    private Counter counter;
+    private Set<Long> postIds;
+
+    public static PostCountReconciledEvent of(Counter counter, Set<Long> postIds) {
+        return PostCountReconciledEvent.builder()
+                .counter(counter)
+                .postIds(postIds)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.sparta.wildcard_newsfeed.domain.post.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+@Getter
+@ToString
+@Builder
+public class PostCreatedEvent {
+    private Long postId;
+    private Long userId; // 작성자
+    private LocalDateTime createdAt;
+
+    public static PostCreatedEvent of(Long postId, Long userId, LocalDateTime createdAt) {
+        return PostCreatedEvent.builder()
+                .postId(postId)
+                .userId(userId)
+                .createdAt(createdAt)
+                .build();
+    }
+}
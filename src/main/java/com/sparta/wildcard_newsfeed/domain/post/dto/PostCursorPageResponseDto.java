@@ -0,0 +1,19 @@
+package com.sparta.wildcard_newsfeed.domain.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PostCursorPageResponseDto {
+    private List<PostPageResponseDto> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // 마지막 페이지면 null
+
+    public PostCursorPageResponseDto withContent(List<PostPageResponseDto> content) {
+        return new PostCursorPageResponseDto(content, size, hasNext, nextCursor);
+    }
+}
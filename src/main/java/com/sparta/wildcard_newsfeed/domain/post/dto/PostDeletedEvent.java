@@ -0,0 +1,18 @@
+package com.sparta.wildcard_newsfeed.domain.post.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@Builder
+public class PostDeletedEvent {
+    private Long postId;
+
+    public static PostDeletedEvent of(Long postId) {
+        return PostDeletedEvent.builder()
+                .postId(postId)
+                .build();
+    }
+}
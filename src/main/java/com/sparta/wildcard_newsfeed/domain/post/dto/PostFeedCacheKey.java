@@ -0,0 +1,45 @@
+package com.sparta.wildcard_newsfeed.domain.post.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 게시물 페이지 캐시 키 - 같은 결과를 돌려주는 요청은 같은 키가 되도록 정규화
+ */
+public record PostFeedCacheKey(String sortBy,
+                               PostPagingTypeEnum pagingType,
+                               int page,
+                               int size,
+                               String cursor,
+                               String firstDate,
+                               String lastDate,
+                               boolean withTotalCount) {
+
+    public static PostFeedCacheKey of(PostPageRequestDto requestDto) {
+        PostPagingTypeEnum pagingType = requestDto.getPagingType();
+        boolean cursorPaging = pagingType == PostPagingTypeEnum.CURSOR;
+
+        // 기간을 지정하지 않으면 오늘까지 조회하므로 날짜가 바뀌면 다른 키
+        String firstDate = requestDto.getFirstDate();
+        String lastDate = requestDto.getLastDate();
+        if (firstDate == null || lastDate == null) {
+            firstDate = null;
+            lastDate = LocalDate.now().toString();
+        }
+
+        String cursor = requestDto.getCursor();
+        if (!cursorPaging || cursor == null || cursor.isBlank()) {
+            cursor = null;
+        }
+
+        return new PostFeedCacheKey(
+                requestDto.getSortBy(),
+                pagingType,
+                cursorPaging ? 0 : requestDto.getPage(),
+                requestDto.getSize(),
+                cursor,
+                firstDate,
+                lastDate,
+                pagingType == PostPagingTypeEnum.SLICE && requestDto.isWithTotalCount()
+        );
+    }
+}
@@ -1,8 +1,10 @@
 package com.sparta.wildcard_newsfeed.domain.post.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
@@ -22,7 +24,7 @@ public class PostPageRequestDto {
 
     @Schema(description = "정렬 기준", example = "CREATE")
     @NotNull(message = "정렬 기준 필수 입력 값입니다.")
-    private String sortBy; // 생성일자 최신순 or 좋아요 많은 순
+    private String sortBy; // 생성일자 최신순(CREATE) or 좋아요 많은 순(LIKED) or 최근 인기순(TRENDING)
 
     @Schema(description = "검색 기간 시작일", example = "2024-05-01")
     private String firstDate; // 생성일자 최신순 or 좋아요 많은 순
@@ -30,12 +32,40 @@ public class PostPageRequestDto {
     @Schema(description = "검색 기간 마지막일", example = "2024-05-27")
     private String lastDate; // 생성일자 최신순 or 좋아요 많은 순
 
+    @Schema(description = "페이징 방식 (OFFSET || CURSOR || SLICE)", example = "OFFSET")
+    private PostPagingTypeEnum pagingType; // 미입력 시 OFFSET
+
+    @Schema(description = "다음 페이지 커서 (CURSOR 방식에서 이전 응답의 nextCursor)")
+    private String cursor; // 첫 페이지는 비워서 요청
+
+    @Schema(description = "대략적인 전체 게시물 수 포함 여부 (SLICE 방식)", example = "false")
+    private boolean withTotalCount; // 캐시된 값이라 실제 개수와 다를 수 있음
+
+    @Schema(description = "게시물별 댓글 미리보기 수 (좋아요 많은 순, 0 이면 미포함)", example = "3")
+    @PositiveOrZero(message = "0 이상만 가능합니다.")
+    @Max(value = 5, message = "댓글 미리보기는 최대 5개까지 가능합니다.")
+    private int commentPreviewSize; // 페이지 캐시와 별도로 게시물별 캐시에서 채움
+
+    public PostPagingTypeEnum getPagingType() {
+        if (pagingType != null) {
+            return pagingType;
+        } else {
+            return PostPagingTypeEnum.OFFSET;
+        }
+    }
+
     /*
     - **페이지네이션**
         - 10개씩 페이지네이션하여, 각 페이지 당 뉴스피드 데이터가 10개씩 나오게 합니다.
     - **정렬 기능**
         - 생성일자 기준 최신순
         - 좋아요 많은 순
+        - 최근 인기순 (TRENDING, 최근 좋아요/댓글 기준, 기간 검색 미적용)
+    - **커서 페이징**
+        - pagingType 이 CURSOR 이면 page 대신 cursor 기준으로 다음 게시물을 조회 (OFFSET, COUNT 없음)
+        - pagingType 이 SLICE 이면 size + 1 건만 조회해서 다음 페이지 여부를 판단 (COUNT 없음)
+    - **댓글 미리보기**
+        - commentPreviewSize 가 1 이상이면 게시물마다 좋아요 많은 최상위 댓글을 함께 조회 (페이지 전체를 쿼리 한 번으로)
     - **기간별 검색 기능**
         - 예) 2024.05.01 ~ 2024.05.27 동안 작성된 뉴스피드 게시물 검색
      */
@@ -16,4 +16,5 @@ public interface PostPageResponseDto {
      @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
      LocalDateTime getUpdatedAt();
      Long getLikeCount();
+     Long getCommentCount();
 }
\ No newline at end of file
@@ -1,12 +1,13 @@
 package com.sparta.wildcard_newsfeed.domain.post.dto;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.TopCommentDto;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
-@AllArgsConstructor
 public class PostPageResponseImpl implements PostPageResponseDto {
     private Long postId;
     private Long userId;
@@ -16,4 +17,41 @@ public class PostPageResponseImpl implements PostPageResponseDto {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private Long likeCount;
-}
\ No newline at end of file
+    private Long commentCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean likedByMe; // 로그인한 사용자에게만 포함
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<TopCommentDto> topComments; // commentPreviewSize 요청 시에만 포함
+
+    public PostPageResponseImpl(Long postId, Long userId, String title, String content, String name,
+                                LocalDateTime createdAt, LocalDateTime updatedAt, Long likeCount, Long commentCount) {
+        this.postId = postId;
+        this.userId = userId;
+        this.title = title;
+        this.content = content;
+        this.name = name;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+    }
+
+    // 캐시된 페이지 항목은 여러 사용자가 공유하므로 복사해서 사용자별 값을 채움
+    public PostPageResponseImpl(PostPageResponseDto source, boolean likedByMe) {
+        this(source.getPostId(), source.getUserId(), source.getTitle(), source.getContent(), source.getName(),
+                source.getCreatedAt(), source.getUpdatedAt(), source.getLikeCount(), source.getCommentCount());
+        this.likedByMe = likedByMe;
+    }
+
+    // 좋아요 여부를 채운 항목이면 그 값을 유지한 채 댓글 미리보기를 채움
+    public static PostPageResponseImpl withTopComments(PostPageResponseDto source, List<TopCommentDto> topComments) {
+        PostPageResponseImpl copy = new PostPageResponseImpl(source.getPostId(), source.getUserId(), source.getTitle(),
+                source.getContent(), source.getName(), source.getCreatedAt(), source.getUpdatedAt(),
+                source.getLikeCount(), source.getCommentCount());
+        if (source instanceof PostPageResponseImpl impl) {
+            copy.likedByMe = impl.likedByMe;
+        }
+        copy.topComments = topComments;
+        return copy;
+    }
+}
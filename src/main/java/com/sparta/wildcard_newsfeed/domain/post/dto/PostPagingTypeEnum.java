@@ -0,0 +1,13 @@
+package com.sparta.wildcard_newsfeed.domain.post.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum PostPagingTypeEnum {
+    OFFSET("offset"), // 페이지 번호 기반 (기존 방식)
+    CURSOR("cursor"), // 마지막 게시물 기준 커서 기반
+    SLICE("slice"); // 페이지 번호 기반, 전체 개수 COUNT 없이 다음 페이지 존재 여부만 확인
+    private final String pagingType;
+}
@@ -1,6 +1,7 @@
 package com.sparta.wildcard_newsfeed.domain.post.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
 import lombok.Getter;
 
@@ -19,6 +20,13 @@ public class PostResponseDto {
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime updatedAt;
     private Long likeCount;
+    private Long commentCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean likedByMe; // 로그인한 사용자에게만 포함
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long viewCount; // 단건 조회에만 포함
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long uniqueViewerCount; // 고유 조회자 수 (HyperLogLog 추정값)
 
     public PostResponseDto(Post post) {
         this.id = post.getId();
@@ -28,6 +36,7 @@ public class PostResponseDto {
         this.createdAt = post.getCreatedAt();
         this.updatedAt = post.getUpdatedAt();
         this.likeCount = post.getLikeCount();
+        this.commentCount = post.getCommentCount();
     }
 
     public PostResponseDto(Post post, List<String> s3Urls) {
@@ -39,5 +48,43 @@ public class PostResponseDto {
         this.updatedAt = post.getUpdatedAt();
         this.s3Urls = s3Urls;
         this.likeCount = post.getLikeCount();
+        this.commentCount = post.getCommentCount();
     }
-}
\ No newline at end of file
+
+    // JPQL 생성자 프로젝션용 (엔티티를 영속성 컨텍스트에 올리지 않음)
+    public PostResponseDto(Long id, String title, String content, String username,
+                           LocalDateTime createdAt, LocalDateTime updatedAt, Long likeCount, Long commentCount) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.username = username;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.likeCount = likeCount;
+        this.commentCount = commentCount;
+    }
+
+    // 캐시된 응답은 여러 사용자가 공유하므로 복사해서 사용자별 값을 채움
+    public PostResponseDto withLikedByMe(boolean likedByMe) {
+        PostResponseDto copy = copy();
+        copy.likedByMe = likedByMe;
+        return copy;
+    }
+
+    // 조회수는 캐시와 별개로 메모리에서 집계하므로 응답 직전에 복사해서 채움
+    public PostResponseDto withViewStats(long viewCount, long uniqueViewerCount) {
+        PostResponseDto copy = copy();
+        copy.viewCount = viewCount;
+        copy.uniqueViewerCount = uniqueViewerCount;
+        return copy;
+    }
+
+    private PostResponseDto copy() {
+        PostResponseDto copy = new PostResponseDto(id, title, content, username, createdAt, updatedAt, likeCount, commentCount);
+        copy.s3Urls = s3Urls;
+        copy.likedByMe = likedByMe;
+        copy.viewCount = viewCount;
+        copy.uniqueViewerCount = uniqueViewerCount;
+        return copy;
+    }
+}
@@ -0,0 +1,22 @@
+package com.sparta.wildcard_newsfeed.domain.post.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class PostSlicePageResponseDto {
+    private List<PostPageResponseDto> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long approximateTotalCount; // withTotalCount 요청 시에만 포함
+
+    public PostSlicePageResponseDto withContent(List<PostPageResponseDto> content) {
+        return new PostSlicePageResponseDto(content, page, size, hasNext, approximateTotalCount);
+    }
+}
@@ -0,0 +1,18 @@
+package com.sparta.wildcard_newsfeed.domain.post.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@Builder
+public class PostUpdatedEvent {
+    private Long postId;
+
+    public static PostUpdatedEvent of(Long postId) {
+        return PostUpdatedEvent.builder()
+                .postId(postId)
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.sparta.wildcard_newsfeed.domain.post.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시물 상세 응답이 바뀌었는지 판단하는 값 - 게시물 수정/좋아요는 updatedAt, 댓글 추가/삭제/수정/좋아요는 댓글 버전으로 반영
+ */
+public record PostVersionDto(Long postId,
+                             LocalDateTime updatedAt,
+                             Long likeCount,
+                             Long commentCount,
+                             Long commentVersion) {
+}
@@ -5,6 +5,7 @@ import com.sparta.wildcard_newsfeed.domain.common.TimeStampEntity;
 import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
 import com.sparta.wildcard_newsfeed.domain.user.entity.User;
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
 import lombok.*;
 
 import java.util.ArrayList;
@@ -15,6 +16,11 @@ import java.util.List;
 @Setter
 @Entity
 @NoArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_post_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_post_like_count_id", columnList = "like_count, id"),
+        @Index(name = "idx_post_user_created_at_id", columnList = "user_id, created_at, id")
+})
 public class Post extends TimeStampEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -33,6 +39,22 @@ public class Post extends TimeStampEntity {
     @Setter
     private Long likeCount;
 
+    // 좋아요 변경 버전 - liked 행이 추가/삭제될 때마다 증가 (좋아요 사용자 비트맵 스냅샷 검증)
+    @Setter
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long likeVersion = 0L;
+
+    // 댓글 수 - 댓글 추가/삭제 시 상대값으로 갱신, 어긋난 값은 PostCommentCountReconciler 가 보정
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long commentCount = 0L;
+
+    // 댓글 버전 - 댓글 추가/수정/삭제, 댓글 좋아요마다 증가 (게시물 상세 ETag 를 댓글 테이블 집계 없이 계산)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long commentVersion = 0L;
+
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Comment> comments = new ArrayList<>();
 
@@ -49,6 +71,8 @@ public class Post extends TimeStampEntity {
     public void update(PostRequestDto postRequestDto) {
         this.title = postRequestDto.getTitle();
         this.content = postRequestDto.getContent();
+        // 제목/내용이 같고 미디어만 바뀐 수정도 updated_at 이 바뀌어야 상세 ETag 가 바뀜
+        markModified();
     }
 
     public void setTestDateTime() {
@@ -0,0 +1,31 @@
+package com.sparta.wildcard_newsfeed.domain.post.entity;
+
+import com.sparta.wildcard_newsfeed.domain.common.TimeStampEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시물 조회수와 고유 조회자 수(HyperLogLog 추정)
+ * 저장은 PostViewCounter 가 주기적으로 JDBC upsert 로 하고, 이 엔티티는 테이블 정의용
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "post_stats")
+public class PostStats extends TimeStampEntity {
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(nullable = false)
+    private Long viewCount;
+
+    @Column(nullable = false)
+    private Long uniqueViewers;
+
+    // 고유 조회자 추정용 HyperLogLog 레지스터
+    @Lob
+    @Column(nullable = false, length = 65_535)
+    private byte[] viewerSketch;
+}
@@ -1,27 +1,154 @@
 package com.sparta.wildcard_newsfeed.domain.post.repository;
 
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikeTargetDto;
 import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostVersionDto;
 import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.timeline.dto.TimelineEntryDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    @EntityGraph(attributePaths = "user")
+    List<Post> findAllByOrderByCreatedAtDescIdDesc();
+
+    @EntityGraph(attributePaths = "user")
+    List<Post> findByIdIn(Collection<Long> ids);
+
+    // 단일 조회 - 작성자를 함께 조회
+    @EntityGraph(attributePaths = "user")
+    Optional<Post> findWithUserById(Long id);
+
+    // 좋아요 수 원자적 증감 - updatedAt 도 함께 갱신해서 상세 ETag 가 바뀌도록 함
+    @Modifying
+    @Query("update Post p set p.likeCount = p.likeCount + :delta, p.likeVersion = p.likeVersion + 1, p.updatedAt = :now " +
+            "where p.id = :postId")
+    int updateLikeCount(@Param("postId") Long postId, @Param("delta") long delta, @Param("now") LocalDateTime now);
+
+    @Query("select p.likeVersion from Post p where p.id = :postId")
+    Optional<Long> findLikeVersionById(@Param("postId") Long postId);
+
+    // 댓글 수 원자적 증감 - 댓글 추가/삭제와 같은 트랜잭션에서 상대값으로 갱신, 댓글 버전도 함께 증가
+    @Modifying
+    @Query("update Post p set p.commentCount = p.commentCount + :delta, p.commentVersion = p.commentVersion + 1 " +
+            "where p.id = :postId")
+    int updateCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    // 댓글 수정, 댓글 좋아요 - 댓글 수는 그대로 두고 댓글 버전만 증가
+    @Modifying
+    @Query("update Post p set p.commentVersion = p.commentVersion + 1 where p.id = :postId")
+    int increaseCommentVersion(@Param("postId") Long postId);
+
+    // 게시물 상세 ETag 계산용 - 본문 없이 게시물 행의 버전 값만 PK 로 조회
+    @Query("select new com.sparta.wildcard_newsfeed.domain.post.dto.PostVersionDto(" +
+            "p.id, p.updatedAt, p.likeCount, p.commentCount, p.commentVersion) " +
+            "from Post p where p.id = :postId")
+    Optional<PostVersionDto> findPostVersionById(@Param("postId") Long postId);
+
+    // 좋아요 대상 확인 - user_id 컬럼만 읽으므로 사용자 조인 없음
+    @Query("select new com.sparta.wildcard_newsfeed.domain.liked.dto.LikeTargetDto(p.id, p.user.id) " +
+            "from Post p where p.id = :postId")
+    Optional<LikeTargetDto> findLikeTargetById(@Param("postId") Long postId);
+
+    // 작성자의 최근 게시물 키 - 팔로우 시 타임라인 backfill 용
+    @Query("select new com.sparta.wildcard_newsfeed.domain.timeline.dto.TimelineEntryDto(p.id, p.createdAt) " +
+            "from Post p where p.user.id = :userId order by p.createdAt desc, p.id desc")
+    List<TimelineEntryDto> findRecentTimelineEntriesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 작성자별 최신 게시물 키 - (user_id, created_at, id) 인덱스 seek
+    @Query("select new com.sparta.wildcard_newsfeed.domain.timeline.dto.TimelineEntryDto(p.id, p.createdAt) " +
+            "from Post p " +
+            "where p.user.id = :userId " +
+            "and (p.createdAt < :cursorCreatedAt or (p.createdAt = :cursorCreatedAt and p.id < :cursorId)) " +
+            "order by p.createdAt desc, p.id desc")
+    List<TimelineEntryDto> findTimelineEntriesByUserId(@Param("userId") Long userId,
+                                                       @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                       @Param("cursorId") Long cursorId,
+                                                       Pageable pageable);
+
+    // 전체 게시물 스트리밍용 청크 - (created_at, id) 인덱스 seek 로 커서 다음부터 size 건 (청크마다 짧은 쿼리 하나)
+    @Query("select new com.sparta.wildcard_newsfeed.domain.post.dto.PostResponseDto(" +
+            "p.id, p.title, p.content, u.name, p.createdAt, p.updatedAt, p.likeCount, p.commentCount) " +
+            "from Post p join p.user u " +
+            "where p.createdAt < :cursorCreatedAt or (p.createdAt = :cursorCreatedAt and p.id < :cursorId) " +
+            "order by p.createdAt desc, p.id desc")
+    List<PostResponseDto> findPostResponsesBefore(@Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Pageable pageable);
+
+    // 좋아요 수는 LikedService 가 관리하는 post.like_count 를 그대로 사용 (liked 테이블 집계 X)
     @Query(value = "select p.id as postId, u.id as userId, p.title, p.content, u.name, " +
-            "p.created_at as createdAt, p.updated_at as updatedAt, " +
-            "IF(c.count is null, 0, c.count) as likeCount " +
-            "from (select id, count(*) as count " +
-            "from (select a.id, a.title from post a " +
-            "left join liked b on a.id = b.contents_id " +
-            "where b.content_type = 'POST') a " +
-            "group by a.id) c " +
-            "right join post p on c.id = p.id " +
+            "p.created_at as createdAt, p.updated_at as updatedAt, p.like_count as likeCount, p.comment_count as commentCount " +
+            "from post p " +
             "left join user u on u.id = p.user_id " +
-            "where p.created_at between :startDate AND :endDate ", nativeQuery = true)
+            "where p.created_at between :startDate AND :endDate ",
+            countQuery = "select count(*) from post p " +
+                    "where p.created_at between :startDate AND :endDate ",
+            nativeQuery = true)
     Page<PostPageResponseDto> findPostPages(@Param("startDate") String startDate,
                                             @Param("endDate") String endDate,
                                             Pageable pageable);
+
+    // 인기 게시물 목록 갱신용 - 요청 시점이 아니라 주기적인 갱신 때만 조회
+    @Query(value = "select p.id as postId, u.id as userId, p.title, p.content, u.name, " +
+            "p.created_at as createdAt, p.updated_at as updatedAt, p.like_count as likeCount, p.comment_count as commentCount " +
+            "from post p " +
+            "left join user u on u.id = p.user_id " +
+            "where p.id in (:ids)", nativeQuery = true)
+    List<PostPageResponseDto> findPostPagesByIds(@Param("ids") Collection<Long> ids);
+
+    // 다음 페이지 존재 여부만 확인 (size + 1 건 조회, COUNT 쿼리 없음)
+    @Query(value = "select p.id as postId, u.id as userId, p.title, p.content, u.name, " +
+            "p.created_at as createdAt, p.updated_at as updatedAt, p.like_count as likeCount, p.comment_count as commentCount " +
+            "from post p " +
+            "left join user u on u.id = p.user_id " +
+            "where p.created_at between :startDate AND :endDate ", nativeQuery = true)
+    Slice<PostPageResponseDto> findPostSlices(@Param("startDate") String startDate,
+                                              @Param("endDate") String endDate,
+                                              Pageable pageable);
+
+    long countByCreatedAtBetween(LocalDateTime startDateTime, LocalDateTime endDateTime);
+
+    // 커서 페이징 - 생성일자 최신순 (created_at, id) 인덱스 seek
+    @Query(value = "select p.id as postId, u.id as userId, p.title, p.content, u.name, " +
+            "p.created_at as createdAt, p.updated_at as updatedAt, p.like_count as likeCount, p.comment_count as commentCount " +
+            "from post p " +
+            "left join user u on u.id = p.user_id " +
+            "where p.created_at between :startDate AND :endDate " +
+            "and (p.created_at < :cursorCreatedAt or (p.created_at = :cursorCreatedAt and p.id < :cursorId)) " +
+            "order by p.created_at desc, p.id desc " +
+            "limit :limit", nativeQuery = true)
+    List<PostPageResponseDto> findPostPagesByCreatedAtCursor(@Param("startDate") String startDate,
+                                                             @Param("endDate") String endDate,
+                                                             @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                             @Param("cursorId") Long cursorId,
+                                                             @Param("limit") int limit);
+
+    // 커서 페이징 - 좋아요 많은 순 (like_count, id) 인덱스 seek
+    @Query(value = "select p.id as postId, u.id as userId, p.title, p.content, u.name, " +
+            "p.created_at as createdAt, p.updated_at as updatedAt, p.like_count as likeCount, p.comment_count as commentCount " +
+            "from post p " +
+            "left join user u on u.id = p.user_id " +
+            "where p.created_at between :startDate AND :endDate " +
+            "and (p.like_count < :cursorLikeCount or (p.like_count = :cursorLikeCount and p.id < :cursorId)) " +
+            "order by p.like_count desc, p.id desc " +
+            "limit :limit", nativeQuery = true)
+    List<PostPageResponseDto> findPostPagesByLikeCountCursor(@Param("startDate") String startDate,
+                                                             @Param("endDate") String endDate,
+                                                             @Param("cursorLikeCount") Long cursorLikeCount,
+                                                             @Param("cursorId") Long cursorId,
+                                                             @Param("limit") int limit);
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.sparta.wildcard_newsfeed.config.SchedulingConfig;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostCountReconciledEvent;
+import com.sparta.wildcard_newsfeed.util.ChunkedReconciler;
+import com.sparta.wildcard_newsfeed.util.ChunkedReconciler.ReconcileResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+/**
+ * post.comment_count 를 comment 테이블 기준으로 채우고(backfill) 어긋난 값을 보정 (chunk 반복은 ChunkedReconciler)
+ * - 컬럼 추가 직후 기존 게시물은 0 이므로 시작 후 initial-delay-ms 에 한 번 실행해서 채우고, 이후 interval-ms 마다 보정
+ * - chunk 마다 같은 id 범위의 댓글을 (post_id) group by 한 번으로 집계
+ * - 읽었을 때의 comment_version(댓글 추가/삭제마다 증가)이 그대로일 때만 batch 로 수정
+ * - 수정한 chunk 마다 PostCountReconciledEvent 를 발행해서 캐시 제거/ETag 버전 증가
+ * - 오래 걸리는 작업이므로 다른 주기 작업을 막지 않도록 보정 전용 스케줄러에서 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCommentCountReconciler {
+
+    private static final String SELECT_POSTS_SQL =
+            "select id, comment_count, comment_version from post where id > ? order by id limit ?";
+    private static final String COUNT_COMMENTS_SQL =
+            "select post_id, count(*) from comment where post_id between ? and ? group by post_id";
+    private static final String FIX_POST_SQL =
+            "update post set comment_count = ? where id = ? and comment_version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${newsfeed.post.comment-count.reconcile.enabled:true}")
+    private boolean enabled;
+
+    @Value("${newsfeed.post.comment-count.reconcile.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${newsfeed.post.comment-count.reconcile.pause-ms:50}")
+    private long pauseMs;
+
+    private Counter fixedCounter;
+
+    private record PostRow(long id, long commentCount, long commentVersion) {
+    }
+
+    private static final RowMapper<PostRow> POST_ROW_MAPPER = (rs, rowNum) ->
+            new PostRow(rs.getLong("id"), rs.getLong("comment_count"), rs.getLong("comment_version"));
+
+    @PostConstruct
+    void registerMetrics() {
+        fixedCounter = meterRegistry.counter("post.comment-count.reconcile.fixed");
+    }
+
+    @Scheduled(initialDelayString = "${newsfeed.post.comment-count.reconcile.initial-delay-ms:60000}",
+            fixedDelayString = "${newsfeed.post.comment-count.reconcile.interval-ms:3600000}",
+            scheduler = SchedulingConfig.RECONCILE_SCHEDULER)
+    public void scheduledReconcile() {
+        if (enabled) {
+            reconcile();
+        }
+    }
+
+    public synchronized ReconcileResult reconcile() {
+        ReconcileResult result = ChunkedReconciler.run(jdbcTemplate, SELECT_POSTS_SQL, POST_ROW_MAPPER, PostRow::id,
+                chunkSize, pauseMs, "게시물 댓글 수 보정", this::fixChunk);
+        log.info("게시물 댓글 수 보정 완료 - {}건 중 {}건 수정", result.scanned(), result.fixed());
+        return result;
+    }
+
+    private long fixChunk(List<PostRow> rows) {
+        Map<Long, Long> actualCounts = new HashMap<>();
+        jdbcTemplate.query(COUNT_COMMENTS_SQL,
+                (RowCallbackHandler) rs -> actualCounts.put(rs.getLong(1), rs.getLong(2)),
+                rows.get(0).id(), rows.get(rows.size() - 1).id());
+
+        List<Long> driftedIds = new ArrayList<>();
+        List<Object[]> fixes = new ArrayList<>();
+        for (PostRow row : rows) {
+            long actual = actualCounts.getOrDefault(row.id(), 0L);
+            if (actual != row.commentCount()) {
+                driftedIds.add(row.id());
+                fixes.add(new Object[]{actual, row.id(), row.commentVersion()});
+            }
+        }
+        if (fixes.isEmpty()) {
+            return 0;
+        }
+
+        int[] updated = jdbcTemplate.batchUpdate(FIX_POST_SQL, fixes);
+        Set<Long> postIds = new TreeSet<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] > 0) {
+                postIds.add(driftedIds.get(i));
+            }
+        }
+        fixedCounter.increment(postIds.size());
+        if (!postIds.isEmpty()) {
+            eventPublisher.publishEvent(PostCountReconciledEvent.of(PostCountReconciledEvent.Counter.COMMENT_COUNT, postIds));
+        }
+        return postIds.size();
+    }
+}
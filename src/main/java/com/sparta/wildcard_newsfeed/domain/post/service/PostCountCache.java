@@ -0,0 +1,30 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.sparta.wildcard_newsfeed.config.CacheConfig;
+import com.sparta.wildcard_newsfeed.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 기간별 게시물 수를 일정 시간 동안 캐시 (CacheConfig.POST_COUNT_CACHE - 최대 개수, TTL, 통계는 설정에서)
+ * SLICE 페이징에서 전체 개수가 필요한 클라이언트에게 대략적인 값을 제공
+ */
+@Component
+@RequiredArgsConstructor
+public class PostCountCache {
+
+    private final PostRepository postRepository;
+    private final CacheManager cacheManager;
+
+    public long getApproximateCount(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        Cache cache = cacheManager.getCache(CacheConfig.POST_COUNT_CACHE);
+        // 같은 기간을 동시에 요청해도 COUNT 쿼리는 한 번만
+        Long count = cache.get(startDateTime + "~" + endDateTime,
+                () -> postRepository.countByCreatedAtBetween(startDateTime, endDateTime));
+        return count;
+    }
+}
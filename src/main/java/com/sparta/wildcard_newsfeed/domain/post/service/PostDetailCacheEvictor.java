@@ -0,0 +1,70 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.sparta.wildcard_newsfeed.config.CacheConfig;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentCreatedEvent;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentDeletedEvent;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentUpdatedEvent;
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikedChangedEvent;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostCountReconciledEvent;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostDeletedEvent;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시물/댓글/좋아요 변경이 커밋되거나 보정 작업이 카운터를 바로잡으면 해당 게시물의 상세 캐시 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class PostDetailCacheEvictor {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener
+    public void onPostUpdated(PostUpdatedEvent event) {
+        evict(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        evict(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void onCommentCreated(CommentCreatedEvent event) {
+        evict(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void onCommentUpdated(CommentUpdatedEvent event) {
+        evict(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        evict(event.getPostId());
+    }
+
+    // 게시물 좋아요, 댓글 좋아요 모두 상세 응답의 좋아요 수를 바꿈
+    @TransactionalEventListener
+    public void onLikedChanged(LikedChangedEvent event) {
+        evict(event.getPostId());
+    }
+
+    // 보정 작업이 바로잡은 게시물 좋아요 수, 댓글 좋아요 수, 댓글 수 모두 상세 응답에 포함됨
+    @EventListener
+    public void onCountReconciled(PostCountReconciledEvent event) {
+        event.getPostIds().forEach(this::evict);
+    }
+
+    private void evict(Long postId) {
+        Cache cache = cacheManager.getCache(CacheConfig.POST_DETAIL_CACHE);
+        if (cache != null && postId != null) {
+            cache.evict(postId);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.sparta.wildcard_newsfeed.config.CacheConfig;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentCursorPageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.PostWithCommentsResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.entity.Comment;
+import com.sparta.wildcard_newsfeed.domain.comment.repository.CommentRepository;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.post.entity.PostMedia;
+import com.sparta.wildcard_newsfeed.domain.post.repository.PostMediaRepository;
+import com.sparta.wildcard_newsfeed.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 게시물 상세 조회 - 게시물+작성자, 미디어, 첫 페이지 댓글+작성자(+다음 페이지 커서)를 쿼리 3번으로 조회해 하나의 응답으로 캐시
+ */
+@Service
+@RequiredArgsConstructor
+public class PostDetailService {
+
+    private final PostRepository postRepository;
+    private final PostMediaRepository postMediaRepository;
+    private final CommentRepository commentRepository;
+
+    @Value("${newsfeed.post.detail-comment-size:20}")
+    private int commentSize;
+
+    @Cacheable(cacheNames = CacheConfig.POST_DETAIL_CACHE, key = "#id")
+    @Transactional(readOnly = true)
+    public PostWithCommentsResponseDto getPostDetail(long id) {
+        Post post = postRepository.findWithUserById(id)
+                .orElseThrow(() -> new IllegalArgumentException("해당 게시물이 존재하지 않습니다."));
+
+        List<String> s3Urls = postMediaRepository.findByPostId(id).stream()
+                .map(PostMedia::getUrl)
+                .toList();
+
+        // 첫 페이지 댓글만 포함 (한 건 더 조회해서 다음 페이지 커서 계산), 나머지는 댓글 목록 API 로 이어서 조회
+        List<Comment> comments = commentRepository.findFirstPageByPostId(id, PageRequest.of(0, commentSize + 1));
+
+        return new PostWithCommentsResponseDto(new PostResponseDto(post, s3Urls),
+                CommentCursorPageResponseDto.of(comments, commentSize));
+    }
+}
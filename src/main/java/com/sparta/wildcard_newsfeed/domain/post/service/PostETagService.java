@@ -0,0 +1,92 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentCreatedEvent;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentDeletedEvent;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentUpdatedEvent;
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikedChangedEvent;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import com.sparta.wildcard_newsfeed.domain.post.dto.*;
+import com.sparta.wildcard_newsfeed.domain.post.repository.PostRepository;
+import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
+import com.sparta.wildcard_newsfeed.util.ETagUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조건부 조회(If-None-Match)용 ETag 계산 - 본문을 만들지 않고 버전 값만으로 계산
+ */
+@Service
+@RequiredArgsConstructor
+public class PostETagService {
+
+    private final PostRepository postRepository;
+    private final TrendingService trendingService;
+    // 게시물 목록 버전은 페이지 캐시 제거와 같은 시점에 바뀌도록 캐시 제거 쪽에서 관리
+    private final PostFeedCacheEvictor postFeedCacheEvictor;
+    // 댓글 미리보기 버전 - 댓글 작성/수정/삭제, 댓글 좋아요가 커밋될 때마다 증가 (미리보기를 요청한 페이지에만 반영)
+    private final AtomicLong commentPreviewVersion = new AtomicLong(System.currentTimeMillis());
+
+    // 로그인 사용자별로 likedByMe 가 달라지므로 사용자도 ETag 에 포함
+    @Transactional(readOnly = true)
+    public String getPostDetailETag(long postId, AuthenticationUser viewer) {
+        PostVersionDto version = postRepository.findPostVersionById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 게시물이 존재하지 않습니다."));
+        return ETagUtils.generate("post", viewerOf(viewer), version.postId(), version.updatedAt(), version.likeCount(),
+                version.commentCount(), version.commentVersion());
+    }
+
+    public String getPostPageETag(PostPageRequestDto requestDto, AuthenticationUser viewer) {
+        int previewSize = requestDto.getCommentPreviewSize();
+        long previewVersion = previewSize > 0 ? commentPreviewVersion.get() : 0;
+        // 인기 게시물 목록은 주기적으로 다시 계산되므로 그 버전을 사용
+        if (TrendingService.isTrending(requestDto)) {
+            return ETagUtils.generate("trending", viewerOf(viewer), trendingService.getVersion(), PostFeedCacheKey.of(requestDto),
+                    previewSize, previewVersion);
+        }
+        return ETagUtils.generate("page", viewerOf(viewer), postFeedCacheEvictor.getVersion(), PostFeedCacheKey.of(requestDto),
+                previewSize, previewVersion);
+    }
+
+    public String getPostListETag() {
+        return ETagUtils.generate("list", postFeedCacheEvictor.getVersion());
+    }
+
+    private String viewerOf(AuthenticationUser viewer) {
+        return viewer == null ? "" : viewer.getUsername();
+    }
+
+    @TransactionalEventListener
+    public void onCommentCreated(CommentCreatedEvent event) {
+        commentPreviewVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onCommentUpdated(CommentUpdatedEvent event) {
+        commentPreviewVersion.incrementAndGet();
+    }
+
+    @TransactionalEventListener
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        commentPreviewVersion.incrementAndGet();
+    }
+
+    // 보정 작업이 댓글 좋아요 수를 바로잡으면 미리보기도 바뀜 (목록 버전은 캐시 제거 쪽에서 증가)
+    @EventListener
+    public void onCountReconciled(PostCountReconciledEvent event) {
+        if (event.getCounter() == PostCountReconciledEvent.Counter.COMMENT_LIKE) {
+            commentPreviewVersion.incrementAndGet();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onLikedChanged(LikedChangedEvent event) {
+        if (event.getContentsType() == ContentsTypeEnum.COMMENT) {
+            commentPreviewVersion.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.sparta.wildcard_newsfeed.config.CacheConfig;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentCreatedEvent;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentDeletedEvent;
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikedChangedEvent;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import com.sparta.wildcard_newsfeed.domain.post.dto.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+
+/**
+ * 게시물/댓글/좋아요 변경이 커밋되면 영향을 받는 게시물 페이지 캐시만 제거
+ * - 커밋 전에 조회를 시작한 요청이 변경 전 페이지를 다시 넣을 수 있으므로 re-evict-delay-ms 후 같은 조건으로 한 번 더 제거
+ * - 제거할 때마다 목록 버전(ETag)을 증가시켜서, 다시 넣어진 이전 페이지에 붙은 ETag 도 두 번째 제거 후에는 바뀌도록 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostFeedCacheEvictor {
+
+    private final CacheManager cacheManager;
+    private final TaskScheduler taskScheduler;
+
+    // 페이지 조회 쿼리의 최대 수행 시간보다 길게
+    @Value("${newsfeed.cache.post-feed.re-evict-delay-ms:1000}")
+    private long reEvictDelayMs;
+
+    // 게시물 목록 버전 - 캐시를 제거한 뒤 증가 (재시작 시 이전 ETag 와 겹치지 않도록 시작 시각에서 출발)
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    // 새 게시물은 모든 페이지의 순서와 전체 개수를 바꿈
+    @TransactionalEventListener
+    public void onPostCreated(PostCreatedEvent event) {
+        evictIf((key, value) -> true);
+    }
+
+    // 내용 변경은 해당 게시물이 포함된 페이지만 영향
+    @TransactionalEventListener
+    public void onPostUpdated(PostUpdatedEvent event) {
+        evictIf((key, value) -> containsPost(value, event.getPostId()));
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        evictIf((key, value) -> true);
+    }
+
+    // 댓글 수 변경은 해당 게시물이 포함된 페이지만 영향
+    @TransactionalEventListener
+    public void onCommentCreated(CommentCreatedEvent event) {
+        evictIf((key, value) -> containsPost(value, event.getPostId()));
+    }
+
+    @TransactionalEventListener
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        evictIf((key, value) -> containsPost(value, event.getPostId()));
+    }
+
+    // 좋아요 수 변경은 좋아요 순 정렬 페이지 전체 + 해당 게시물이 포함된 페이지
+    @TransactionalEventListener
+    public void onLikedChanged(LikedChangedEvent event) {
+        if (event.getContentsType() != ContentsTypeEnum.POST) {
+            return;
+        }
+        evictIf((key, value) -> "LIKED".equals(key.sortBy()) || containsPost(value, event.getContentsId()));
+    }
+
+    // 보정 작업이 바로잡은 카운터 - 게시물 좋아요 수는 좋아요 순 정렬 페이지 전체 + 해당 게시물이 포함된 페이지 (댓글 좋아요 수는 목록과 무관)
+    @EventListener
+    public void onCountReconciled(PostCountReconciledEvent event) {
+        switch (event.getCounter()) {
+            case POST_LIKE -> evictIf((key, value) ->
+                    "LIKED".equals(key.sortBy()) || containsAnyPost(value, event.getPostIds()));
+            case COMMENT_COUNT -> evictIf((key, value) -> containsAnyPost(value, event.getPostIds()));
+            default -> {
+            }
+        }
+    }
+
+    private void evictIf(BiPredicate<PostFeedCacheKey, Object> condition) {
+        removeIf(condition);
+        taskScheduler.schedule(() -> removeIf(condition), Instant.now().plusMillis(reEvictDelayMs));
+    }
+
+    private void removeIf(BiPredicate<PostFeedCacheKey, Object> condition) {
+        CaffeineCache cache = (CaffeineCache) cacheManager.getCache(CacheConfig.POST_FEED_CACHE);
+        if (cache != null) {
+            Cache<Object, Object> nativeCache = cache.getNativeCache();
+            nativeCache.asMap().entrySet().removeIf(entry ->
+                    entry.getKey() instanceof PostFeedCacheKey key && condition.test(key, entry.getValue()));
+        }
+        // 제거 후 증가 - 새 버전을 본 요청은 제거 이후에 채워진 페이지만 받음
+        version.incrementAndGet();
+    }
+
+    private boolean containsPost(Object value, Long postId) {
+        return containsAnyPost(value, Set.of(postId));
+    }
+
+    private boolean containsAnyPost(Object value, Set<Long> postIds) {
+        List<PostPageResponseDto> content;
+        if (value instanceof Page<?> page) {
+            content = page.getContent().stream().map(PostPageResponseDto.class::cast).toList();
+        } else if (value instanceof PostCursorPageResponseDto cursorPage) {
+            content = cursorPage.getContent();
+        } else if (value instanceof PostSlicePageResponseDto slicePage) {
+            content = slicePage.getContent();
+        } else {
+            return true;
+        }
+        return content.stream().anyMatch(post -> postIds.contains(post.getPostId()));
+    }
+}
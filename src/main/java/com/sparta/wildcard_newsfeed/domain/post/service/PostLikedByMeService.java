@@ -0,0 +1,91 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.PostWithCommentsResponseDto;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import com.sparta.wildcard_newsfeed.domain.liked.repository.LikedRepository;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostCursorPageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageResponseImpl;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostSlicePageResponseDto;
+import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 캐시된 게시물 페이지/상세 응답에 로그인한 사용자의 좋아요 여부(likedByMe)를 채움
+ * 페이지에 보이는 ID 들로 liked 를 한 번만 조회하므로 페이지 크기와 관계없이 추가 쿼리 수가 일정
+ * 비로그인 사용자는 조회 없이 그대로 반환
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostLikedByMeService {
+
+    private final LikedRepository likedRepository;
+
+    public Page<PostPageResponseDto> markPage(Page<PostPageResponseDto> page, AuthenticationUser user) {
+        if (user == null || page.isEmpty()) {
+            return page;
+        }
+        Set<Long> likedPostIds = findLikedPostIds(page.getContent(), user);
+        return page.map(post -> new PostPageResponseImpl(post, likedPostIds.contains(post.getPostId())));
+    }
+
+    public PostCursorPageResponseDto markPage(PostCursorPageResponseDto page, AuthenticationUser user) {
+        if (user == null || page.getContent().isEmpty()) {
+            return page;
+        }
+        return page.withContent(mark(page.getContent(), user));
+    }
+
+    public PostSlicePageResponseDto markPage(PostSlicePageResponseDto page, AuthenticationUser user) {
+        if (user == null || page.getContent().isEmpty()) {
+            return page;
+        }
+        return page.withContent(mark(page.getContent(), user));
+    }
+
+    public PostWithCommentsResponseDto markDetail(PostWithCommentsResponseDto detail, AuthenticationUser user) {
+        if (user == null) {
+            return detail;
+        }
+        Long postId = detail.getPost().getId();
+        boolean postLiked = !findLikedIds(user, ContentsTypeEnum.POST, List.of(postId)).isEmpty();
+
+        List<CommentResponseDto> comments = detail.getComments();
+        Set<Long> likedCommentIds = comments.isEmpty()
+                ? Set.of()
+                : findLikedIds(user, ContentsTypeEnum.COMMENT, comments.stream().map(CommentResponseDto::getId).toList());
+
+        return new PostWithCommentsResponseDto(
+                detail.getPost().withLikedByMe(postLiked),
+                comments.stream()
+                        .map(comment -> comment.withLikedByMe(likedCommentIds.contains(comment.getId())))
+                        .toList(),
+                detail.isHasMoreComments(),
+                detail.getNextCommentCursor());
+    }
+
+    private List<PostPageResponseDto> mark(List<PostPageResponseDto> posts, AuthenticationUser user) {
+        Set<Long> likedPostIds = findLikedPostIds(posts, user);
+        return posts.stream()
+                .map(post -> (PostPageResponseDto) new PostPageResponseImpl(post, likedPostIds.contains(post.getPostId())))
+                .toList();
+    }
+
+    private Set<Long> findLikedPostIds(List<PostPageResponseDto> posts, AuthenticationUser user) {
+        return findLikedIds(user, ContentsTypeEnum.POST, posts.stream().map(PostPageResponseDto::getPostId).toList());
+    }
+
+    private Set<Long> findLikedIds(AuthenticationUser user, ContentsTypeEnum contentsType, Collection<Long> ids) {
+        return new HashSet<>(likedRepository.findLikedContentsIds(user.getUsername(), contentsType, ids));
+    }
+}
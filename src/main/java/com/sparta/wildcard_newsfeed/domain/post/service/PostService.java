@@ -1,10 +1,8 @@
 package com.sparta.wildcard_newsfeed.domain.post.service;
 
+import com.sparta.wildcard_newsfeed.config.CacheConfig;
 import com.sparta.wildcard_newsfeed.domain.file.service.FileService;
-import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageRequestDto;
-import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageResponseDto;
-import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
-import com.sparta.wildcard_newsfeed.domain.post.dto.PostResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.*;
 import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
 import com.sparta.wildcard_newsfeed.domain.post.entity.PostMedia;
 import com.sparta.wildcard_newsfeed.domain.post.repository.PostMediaRepository;
@@ -13,22 +11,29 @@ import com.sparta.wildcard_newsfeed.domain.user.entity.User;
 import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
 import com.sparta.wildcard_newsfeed.exception.customexception.FileException;
 import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
+import com.sparta.wildcard_newsfeed.util.CursorUtils;
 import com.sparta.wildcard_newsfeed.util.FileUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -40,6 +45,11 @@ public class PostService {
     private final PostMediaRepository postMediaRepository;
     private final FileService fileService;
     private final FileUtils fileUtils;
+    private final PostCountCache postCountCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${newsfeed.post.stream-chunk-size:500}")
+    private int streamChunkSize;
 
     @Transactional
     public PostResponseDto addPost(PostRequestDto postRequestDto, AuthenticationUser user) {
@@ -54,11 +64,16 @@ public class PostService {
 
         List<String> s3Urls = getS3UrlsFromPostMediaList(postMediaList);
 
+        // 커밋 후 팔로워 타임라인에 비동기 배달
+        eventPublisher.publishEvent(PostCreatedEvent.of(post.getId(), byUsercode.getId(), post.getCreatedAt()));
+
         return new PostResponseDto(post, s3Urls);
     }
 
     public PostResponseDto findById(long id) {
-        Post post = findPostById(id);
+        // 응답에 작성자 이름이 필요하므로 함께 조회
+        Post post = postRepository.findWithUserById(id)
+                .orElseThrow(() -> new IllegalArgumentException("해당 게시물이 존재하지 않습니다."));
 
         List<String> s3Urls = getS3UrlsFromPostMediaList(postMediaRepository.findByPostId(id));
 
@@ -66,13 +81,31 @@ public class PostService {
     }
 
     public List<PostResponseDto> findAll() {
-        List<Post> postlist = postRepository.findAll();
+        List<Post> postlist = postRepository.findAllByOrderByCreatedAtDescIdDesc();
         return postlist.stream()
-                .sorted(Comparator.comparing(Post::getCreatedAt).reversed())
                 .map(PostResponseDto::new)
                 .toList();
     }
 
+    // 전체 게시물을 최신순으로 한 건씩 전달
+    // stream-chunk-size 건씩 (created_at, id) 커서로 나눠 조회 - 청크마다 짧은 쿼리 하나라서 느린 클라이언트가 커넥션/트랜잭션을 잡고 있지 않음
+    public void streamAll(Consumer<PostResponseDto> consumer) {
+        // 시작 시점 이후 작성된 게시물은 제외
+        LocalDateTime cursorCreatedAt = LocalDateTime.now().plusSeconds(1);
+        long cursorId = Long.MAX_VALUE;
+        PageRequest chunk = PageRequest.of(0, streamChunkSize);
+        while (true) {
+            List<PostResponseDto> posts = postRepository.findPostResponsesBefore(cursorCreatedAt, cursorId, chunk);
+            posts.forEach(consumer);
+            if (posts.size() < streamChunkSize) {
+                return;
+            }
+            PostResponseDto last = posts.get(posts.size() - 1);
+            cursorCreatedAt = last.getCreatedAt();
+            cursorId = last.getId();
+        }
+    }
+
     @Transactional
     public PostResponseDto updatePost(PostRequestDto postRequestDto, Long postId, AuthenticationUser user) {
         Post post = findPostById(postId);
@@ -88,6 +121,8 @@ public class PostService {
 
         List<String> s3Urls = getS3UrlsFromPostMediaList(postMediaList);
 
+        eventPublisher.publishEvent(PostUpdatedEvent.of(post.getId()));
+
         return new PostResponseDto(post, s3Urls);
     }
 
@@ -98,6 +133,8 @@ public class PostService {
         validateUser(post, user);
 
         postRepository.delete(post);
+
+        eventPublisher.publishEvent(PostDeletedEvent.of(postId));
     }
 
     private List<String> getS3UrlsFromPostMediaList(List<PostMedia> postMediaList) {
@@ -139,10 +176,112 @@ public class PostService {
         }
     }
 
+    @Cacheable(cacheNames = CacheConfig.POST_FEED_CACHE,
+            key = "T(com.sparta.wildcard_newsfeed.domain.post.dto.PostFeedCacheKey).of(#requestDto)")
     @Transactional
     public Page<PostPageResponseDto> getPostPage(PostPageRequestDto requestDto) {
         log.info(requestDto.toString());
 
+        Pageable pageable = createPageable(requestDto);
+
+        Page<PostPageResponseDto> postList = null;
+
+        //---날짜 부분 ---
+        LocalDateTime startDateTime = getStartDateTime(requestDto);
+        LocalDateTime endDateTime = getEndDateTime(requestDto);
+
+        postList = postRepository.findPostPages(startDateTime.toString(), endDateTime.toString(), pageable);
+
+        if (postList.getTotalElements() <= 0) {
+            log.error("페이지 없음");
+            throw new IllegalArgumentException("페이지가 존재하지 않습니다.");
+        }
+        if (postList.getTotalPages() < requestDto.getPage()) {
+            throw new IllegalArgumentException("유효한 페이지 번호가 아닙니다.");
+        }
+
+        return postList;
+    }
+
+    @Cacheable(cacheNames = CacheConfig.POST_FEED_CACHE,
+            key = "T(com.sparta.wildcard_newsfeed.domain.post.dto.PostFeedCacheKey).of(#requestDto)")
+    @Transactional(readOnly = true)
+    public PostSlicePageResponseDto getPostSlicePage(PostPageRequestDto requestDto) {
+        log.info(requestDto.toString());
+
+        Pageable pageable = createPageable(requestDto);
+        LocalDateTime startDateTime = getStartDateTime(requestDto);
+        LocalDateTime endDateTime = getEndDateTime(requestDto);
+
+        Slice<PostPageResponseDto> postSlice = postRepository.findPostSlices(startDateTime.toString(), endDateTime.toString(), pageable);
+
+        if (!postSlice.hasContent()) {
+            if (requestDto.getPage() > 1) {
+                throw new IllegalArgumentException("유효한 페이지 번호가 아닙니다.");
+            }
+            throw new IllegalArgumentException("페이지가 존재하지 않습니다.");
+        }
+
+        Long approximateTotalCount = null;
+        if (requestDto.isWithTotalCount()) {
+            approximateTotalCount = postCountCache.getApproximateCount(startDateTime, endDateTime);
+        }
+
+        return new PostSlicePageResponseDto(postSlice.getContent(), requestDto.getPage(), postSlice.getNumberOfElements(),
+                postSlice.hasNext(), approximateTotalCount);
+    }
+
+    @Cacheable(cacheNames = CacheConfig.POST_FEED_CACHE,
+            key = "T(com.sparta.wildcard_newsfeed.domain.post.dto.PostFeedCacheKey).of(#requestDto)")
+    @Transactional(readOnly = true)
+    public PostCursorPageResponseDto getPostCursorPage(PostPageRequestDto requestDto) {
+        log.info(requestDto.toString());
+
+        LocalDateTime startDateTime = getStartDateTime(requestDto);
+        LocalDateTime endDateTime = getEndDateTime(requestDto);
+        int size = requestDto.getSize();
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회 (COUNT 쿼리 없음)
+        int limit = size + 1;
+
+        List<PostPageResponseDto> postList;
+        if (requestDto.getSortBy().equals("CREATE")) {
+            // 첫 페이지는 검색 기간의 마지막 시각부터 조회
+            LocalDateTime cursorCreatedAt = endDateTime;
+            long cursorId = Long.MAX_VALUE;
+            if (hasCursor(requestDto)) {
+                String[] values = decodeCursor(requestDto);
+                cursorCreatedAt = parseCursorValue(() -> LocalDateTime.parse(values[1]));
+                cursorId = parseCursorValue(() -> Long.parseLong(values[2]));
+            }
+            postList = postRepository.findPostPagesByCreatedAtCursor(
+                    startDateTime.toString(), endDateTime.toString(), cursorCreatedAt, cursorId, limit);
+        } else if (requestDto.getSortBy().equals("LIKED")) {
+            long cursorLikeCount = Long.MAX_VALUE;
+            long cursorId = Long.MAX_VALUE;
+            if (hasCursor(requestDto)) {
+                String[] values = decodeCursor(requestDto);
+                cursorLikeCount = parseCursorValue(() -> Long.parseLong(values[1]));
+                cursorId = parseCursorValue(() -> Long.parseLong(values[2]));
+            }
+            postList = postRepository.findPostPagesByLikeCountCursor(
+                    startDateTime.toString(), endDateTime.toString(), cursorLikeCount, cursorId, limit);
+        } else
+            throw new IllegalArgumentException("정렬은 CREATE 또는 LIKED 만 입력 가능합니다.");
+
+        boolean hasNext = postList.size() > size;
+        List<PostPageResponseDto> content = hasNext ? postList.subList(0, size) : postList;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PostPageResponseDto last = content.get(content.size() - 1);
+            Object sortValue = requestDto.getSortBy().equals("CREATE") ? last.getCreatedAt() : last.getLikeCount();
+            nextCursor = CursorUtils.encode(requestDto.getSortBy(), sortValue, last.getPostId());
+        }
+
+        return new PostCursorPageResponseDto(content, content.size(), hasNext, nextCursor);
+    }
+
+    private Pageable createPageable(PostPageRequestDto requestDto) {
         Sort.Direction direction = Sort.Direction.DESC; //ASC 오름차순 , DESC 내림차순
         //- 생성일자 기준 최신 - 좋아요 많은 순
 
@@ -156,36 +295,57 @@ public class PostService {
         } else
             throw new IllegalArgumentException("정렬은 CREATE 또는 LIKED 만 입력 가능합니다.");
 
-        Sort sort = Sort.by(direction, sortBy);
-        Pageable pageable = PageRequest.of(requestDto.getPage() - 1, requestDto.getSize(), sort);
+        // 같은 정렬 값 안에서 순서가 고정되도록 id 를 보조 정렬로 사용 (인덱스: (created_at, id), (like_count, id))
+        Sort sort = Sort.by(direction, sortBy).and(Sort.by(direction, "postId"));
+        return PageRequest.of(requestDto.getPage() - 1, requestDto.getSize(), sort);
+    }
 
-        Page<PostPageResponseDto> postList = null;
+    private boolean hasCursor(PostPageRequestDto requestDto) {
+        return requestDto.getCursor() != null && !requestDto.getCursor().isBlank();
+    }
 
-        //---날짜 부분 ---
-        LocalDate lastDate = LocalDate.now();
-        LocalDate firstDate = LocalDate.parse("2000-01-01");
-        // null 이면 모든 날짜를 조회
-
-        if (requestDto.getLastDate() != null && requestDto.getFirstDate() != null) {
-            // 날짜 정보가 있으면 해당 날짜만 조회
-            try {
-                lastDate = LocalDate.parse(requestDto.getLastDate());
-                firstDate = LocalDate.parse(requestDto.getFirstDate());
-            } catch (Exception e) {
-                throw new IllegalArgumentException("날짜 포맷이 정상적이지 않습니다.");
-            }
+    private String[] decodeCursor(PostPageRequestDto requestDto) {
+        String[] values = CursorUtils.decode(requestDto.getCursor(), 3);
+        // 다른 정렬 기준으로 발급된 커서는 사용할 수 없음
+        if (!values[0].equals(requestDto.getSortBy())) {
+            throw new IllegalArgumentException("정렬 기준과 커서가 일치하지 않습니다.");
         }
+        return values;
+    }
 
-        postList = postRepository.findPostPages(firstDate.atStartOfDay().toString(), lastDate.atTime(LocalTime.MAX).toString(), pageable);
+    private <T> T parseCursorValue(Supplier<T> parser) {
+        try {
+            return parser.get();
+        } catch (Exception e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
 
-        if (postList.getTotalElements() <= 0) {
-            log.error("페이지 없음");
-            throw new IllegalArgumentException("페이지가 존재하지 않습니다.");
+    // null 이면 모든 날짜를 조회
+    private LocalDateTime getStartDateTime(PostPageRequestDto requestDto) {
+        if (!hasDateRange(requestDto)) {
+            return LocalDate.parse("2000-01-01").atStartOfDay();
         }
-        if (postList.getTotalPages() < requestDto.getPage()) {
-            throw new IllegalArgumentException("유효한 페이지 번호가 아닙니다.");
+        return parseDate(requestDto.getFirstDate()).atStartOfDay();
+    }
+
+    private LocalDateTime getEndDateTime(PostPageRequestDto requestDto) {
+        if (!hasDateRange(requestDto)) {
+            return LocalDate.now().atTime(LocalTime.MAX);
         }
+        return parseDate(requestDto.getLastDate()).atTime(LocalTime.MAX);
+    }
 
-        return postList;
+    private boolean hasDateRange(PostPageRequestDto requestDto) {
+        return requestDto.getLastDate() != null && requestDto.getFirstDate() != null;
+    }
+
+    // 날짜 정보가 있으면 해당 날짜만 조회
+    private LocalDate parseDate(String date) {
+        try {
+            return LocalDate.parse(date);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("날짜 포맷이 정상적이지 않습니다.");
+        }
     }
-}
\ No newline at end of file
+}
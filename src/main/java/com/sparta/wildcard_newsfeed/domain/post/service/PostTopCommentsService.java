@@ -0,0 +1,157 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.sparta.wildcard_newsfeed.config.CacheConfig;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentCreatedEvent;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentDeletedEvent;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentUpdatedEvent;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.TopCommentDto;
+import com.sparta.wildcard_newsfeed.domain.comment.repository.CommentRepository;
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikedChangedEvent;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostCountReconciledEvent;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostCursorPageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostDeletedEvent;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageResponseImpl;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostSlicePageResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시물 페이지의 각 게시물에 좋아요 많은 최상위 댓글 미리보기(topComments)를 채움
+ * 게시물별로 캐시하고, 캐시에 없는 게시물들만 모아서 윈도 함수 쿼리 한 번으로 조회 (게시물마다 조회하는 N+1 없음)
+ * 댓글 작성/수정/삭제, 댓글 좋아요가 커밋되면 해당 게시물의 캐시 제거
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostTopCommentsService {
+
+    // 캐시에는 항상 이 개수만큼 저장하고 요청한 개수만큼 잘라서 사용
+    static final int MAX_PREVIEW_SIZE = 5;
+
+    private final CommentRepository commentRepository;
+    private final CacheManager cacheManager;
+
+    public Page<PostPageResponseDto> markPage(Page<PostPageResponseDto> page, int previewSize) {
+        if (previewSize <= 0 || page.isEmpty()) {
+            return page;
+        }
+        Map<Long, List<TopCommentDto>> topComments = getTopComments(page.getContent(), previewSize);
+        return page.map(post -> PostPageResponseImpl.withTopComments(post, topComments.get(post.getPostId())));
+    }
+
+    public PostCursorPageResponseDto markPage(PostCursorPageResponseDto page, int previewSize) {
+        if (previewSize <= 0 || page.getContent().isEmpty()) {
+            return page;
+        }
+        return page.withContent(mark(page.getContent(), previewSize));
+    }
+
+    public PostSlicePageResponseDto markPage(PostSlicePageResponseDto page, int previewSize) {
+        if (previewSize <= 0 || page.getContent().isEmpty()) {
+            return page;
+        }
+        return page.withContent(mark(page.getContent(), previewSize));
+    }
+
+    private List<PostPageResponseDto> mark(List<PostPageResponseDto> posts, int previewSize) {
+        Map<Long, List<TopCommentDto>> topComments = getTopComments(posts, previewSize);
+        return posts.stream()
+                .map(post -> (PostPageResponseDto) PostPageResponseImpl.withTopComments(post, topComments.get(post.getPostId())))
+                .toList();
+    }
+
+    // 게시물 ID -> 좋아요 많은 순 댓글 (댓글이 없으면 빈 목록)
+    Map<Long, List<TopCommentDto>> getTopComments(List<PostPageResponseDto> posts, int previewSize) {
+        int size = Math.min(previewSize, MAX_PREVIEW_SIZE);
+        Cache cache = cacheManager.getCache(CacheConfig.TOP_COMMENTS_CACHE);
+
+        Map<Long, List<TopCommentDto>> result = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (PostPageResponseDto post : posts) {
+            List<TopCommentDto> cached = getCached(cache, post.getPostId());
+            if (cached != null) {
+                result.put(post.getPostId(), cached);
+            } else {
+                missingIds.add(post.getPostId());
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            Map<Long, List<TopCommentDto>> loaded = new HashMap<>();
+            missingIds.forEach(postId -> loaded.put(postId, new ArrayList<>()));
+            for (TopCommentDto comment : commentRepository.findTopCommentsByPostIds(missingIds, MAX_PREVIEW_SIZE)) {
+                loaded.get(comment.getPostId()).add(comment);
+            }
+            loaded.forEach((postId, comments) -> {
+                List<TopCommentDto> topComments = List.copyOf(comments);
+                if (cache != null) {
+                    cache.put(postId, topComments);
+                }
+                result.put(postId, topComments);
+            });
+        }
+
+        result.replaceAll((postId, comments) -> comments.size() > size ? comments.subList(0, size) : comments);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<TopCommentDto> getCached(Cache cache, Long postId) {
+        return cache == null ? null : cache.get(postId, List.class);
+    }
+
+    @TransactionalEventListener
+    public void onCommentCreated(CommentCreatedEvent event) {
+        evict(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void onCommentUpdated(CommentUpdatedEvent event) {
+        evict(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void onCommentDeleted(CommentDeletedEvent event) {
+        evict(event.getPostId());
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        evict(event.getPostId());
+    }
+
+    // 댓글 좋아요만 순위를 바꿈
+    @TransactionalEventListener
+    public void onLikedChanged(LikedChangedEvent event) {
+        if (event.getContentsType() == ContentsTypeEnum.COMMENT) {
+            evict(event.getPostId());
+        }
+    }
+
+    @EventListener
+    public void onCountReconciled(PostCountReconciledEvent event) {
+        if (event.getCounter() == PostCountReconciledEvent.Counter.COMMENT_LIKE) {
+            event.getPostIds().forEach(this::evict);
+        }
+    }
+
+    private void evict(Long postId) {
+        Cache cache = cacheManager.getCache(CacheConfig.TOP_COMMENTS_CACHE);
+        if (cache != null && postId != null) {
+            cache.evict(postId);
+        }
+    }
+}
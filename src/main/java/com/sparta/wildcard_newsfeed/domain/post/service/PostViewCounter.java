@@ -0,0 +1,243 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.PostWithCommentsResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostDeletedEvent;
+import com.sparta.wildcard_newsfeed.util.HyperLogLog;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시물 조회수 / 고유 조회자 수 집계 - 조회 요청에서는 DB 에 쓰지 않고 메모리에만 누적
+ * - 조회수는 LongAdder(코어별로 나뉜 카운터)로 누적해서 인기 게시물에 조회가 몰려도 경합 없음
+ * - 고유 조회자는 게시물별 HyperLogLog 로 추정 (로그인 사용자는 usercode, 비로그인은 IP 기준)
+ * - flush-ms 마다 변경된 게시물만 post_stats 에 upsert (조회수는 상대값으로 더함)
+ * - 저장된 스케치를 잠그고 읽어서 레지스터별 최댓값으로 합친 뒤 저장 (다른 인스턴스가 반영한 조회자를 덮어쓰지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCounter {
+
+    private static final String SELECT_STATS_SQL =
+            "select view_count, viewer_sketch from post_stats where post_id = ?";
+    private static final String UPSERT_STATS_SQL =
+            "insert into post_stats (post_id, view_count, unique_viewers, viewer_sketch, created_at, updated_at) " +
+                    "values (?, ?, ?, ?, ?, ?) " +
+                    "on duplicate key update view_count = view_count + values(view_count), " +
+                    "unique_viewers = values(unique_viewers), viewer_sketch = values(viewer_sketch), updated_at = values(updated_at)";
+    private static final String DELETE_STATS_SQL = "delete from post_stats where post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${newsfeed.post.view.max-size:10000}")
+    private long maxSize;
+
+    private Cache<Long, PostViews> views;
+    // 반영 전에 메모리에서 밀려난 게시물 - 다음 flush 때 함께 반영
+    private final Queue<Map.Entry<Long, PostViews>> evicted = new ConcurrentLinkedQueue<>();
+    private TransactionTemplate flushTransaction;
+
+    @PostConstruct
+    void init() {
+        flushTransaction = new TransactionTemplate(transactionManager);
+        views = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .evictionListener((Long postId, PostViews postViews, RemovalCause cause) -> {
+                    if (postId != null && postViews != null && postViews.isDirty()) {
+                        evicted.add(Map.entry(postId, postViews));
+                    }
+                })
+                .build();
+    }
+
+    // 메모리 연산만 (처음 조회되는 게시물이면 post_stats 를 한 번 읽음)
+    public void recordView(Long postId, String viewerKey) {
+        get(postId).record(viewerKey);
+    }
+
+    public long getViewCount(Long postId) {
+        return get(postId).viewCount();
+    }
+
+    public long getUniqueViewers(Long postId) {
+        return get(postId).uniqueViewers();
+    }
+
+    // 캐시된 상세 응답은 공유되므로 복사해서 조회수를 채움
+    public PostWithCommentsResponseDto markDetail(PostWithCommentsResponseDto detail) {
+        PostViews postViews = get(detail.getPost().getId());
+        return new PostWithCommentsResponseDto(
+                detail.getPost().withViewStats(postViews.viewCount(), postViews.uniqueViewers()),
+                detail.getComments(),
+                detail.isHasMoreComments(),
+                detail.getNextCommentCursor());
+    }
+
+    // flush 와 같은 잠금 - 삭제 전에 존재를 확인한 flush 가 끝난 뒤에 지우므로 post_stats 가 다시 생기지 않음
+    @TransactionalEventListener
+    public synchronized void onPostDeleted(PostDeletedEvent event) {
+        views.invalidate(event.getPostId());
+        jdbcTemplate.update(DELETE_STATS_SQL, event.getPostId());
+    }
+
+    @Scheduled(fixedDelayString = "${newsfeed.post.view.flush-ms:10000}")
+    public synchronized void flush() {
+        List<Map.Entry<Long, PostViews>> targets = new ArrayList<>();
+        Map.Entry<Long, PostViews> entry;
+        while ((entry = evicted.poll()) != null) {
+            targets.add(entry);
+        }
+        views.asMap().forEach((postId, postViews) -> {
+            if (postViews.isDirty()) {
+                targets.add(Map.entry(postId, postViews));
+            }
+        });
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        List<Long> drainedViews = new ArrayList<>(targets.size());
+        for (Map.Entry<Long, PostViews> target : targets) {
+            drainedViews.add(target.getValue().drain());
+        }
+        try {
+            int flushed = flushTransaction.execute(status -> upsert(targets, drainedViews));
+            log.debug("게시물 조회수 반영: {}건", flushed);
+        } catch (RuntimeException e) {
+            // 실패하면 다음 flush 때 다시 반영
+            for (int i = 0; i < targets.size(); i++) {
+                targets.get(i).getValue().restore(drainedViews.get(i));
+            }
+            throw e;
+        }
+    }
+
+    private int upsert(List<Map.Entry<Long, PostViews>> targets, List<Long> drainedViews) {
+        Object[] postIds = targets.stream().map(Map.Entry::getKey).distinct().toArray();
+        String placeholders = String.join(",", Collections.nCopies(postIds.length, "?"));
+        // 삭제된 게시물은 반영하지 않고 메모리에서도 제거
+        Set<Long> existingPostIds = new HashSet<>(jdbcTemplate.queryForList(
+                "select id from post where id in (" + placeholders + ")", Long.class, postIds));
+        // 저장된 스케치를 잠그고 읽어서 메모리 스케치에 합침
+        Map<Long, byte[]> storedSketches = new HashMap<>();
+        jdbcTemplate.query("select post_id, viewer_sketch from post_stats where post_id in (" + placeholders + ") for update",
+                (RowCallbackHandler) rs -> storedSketches.put(rs.getLong("post_id"), rs.getBytes("viewer_sketch")), postIds);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            Long postId = targets.get(i).getKey();
+            PostViews postViews = targets.get(i).getValue();
+            if (!existingPostIds.contains(postId)) {
+                views.asMap().remove(postId, postViews);
+                continue;
+            }
+            byte[] stored = storedSketches.get(postId);
+            if (stored != null) {
+                mergeSketch(postId, postViews, stored);
+            }
+            byte[] sketch = postViews.sketch.toByteArray();
+            rows.add(new Object[]{postId, drainedViews.get(i), postViews.uniqueViewers(), sketch, now, now});
+            // 밀려난 집계와 다시 읽은 집계가 함께 있으면 뒤의 것이 앞의 것을 합침
+            storedSketches.put(postId, sketch);
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_STATS_SQL, rows);
+        }
+        return rows.size();
+    }
+
+    private void mergeSketch(Long postId, PostViews postViews, byte[] stored) {
+        try {
+            postViews.sketch.merge(HyperLogLog.fromBytes(stored));
+        } catch (IllegalArgumentException e) {
+            // 형식이 다른 스케치는 합치지 않고 메모리 스케치로 덮어씀
+            log.warn("저장된 조회자 스케치를 합치지 못했습니다. postId={}", postId, e);
+        }
+    }
+
+    // 종료 시 남은 조회수를 반영
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private PostViews get(Long postId) {
+        return views.get(postId, this::load);
+    }
+
+    private PostViews load(Long postId) {
+        List<PostViews> stored = jdbcTemplate.query(SELECT_STATS_SQL, (rs, rowNum) ->
+                new PostViews(rs.getLong("view_count"), HyperLogLog.fromBytes(rs.getBytes("viewer_sketch"))), postId);
+        return stored.isEmpty() ? new PostViews(0, new HyperLogLog()) : stored.get(0);
+    }
+
+    /**
+     * 게시물 하나의 조회 집계 - 반영된 조회수(flushedViews) + 아직 반영 안 된 조회수(pendingViews)
+     */
+    private static final class PostViews {
+        private volatile long flushedViews;
+        private final LongAdder pendingViews = new LongAdder();
+        private final HyperLogLog sketch;
+        private final AtomicBoolean dirty = new AtomicBoolean();
+
+        private PostViews(long flushedViews, HyperLogLog sketch) {
+            this.flushedViews = flushedViews;
+            this.sketch = sketch;
+        }
+
+        void record(String viewerKey) {
+            pendingViews.increment();
+            sketch.offer(viewerKey);
+            dirty.set(true);
+        }
+
+        long viewCount() {
+            return flushedViews + pendingViews.sum();
+        }
+
+        long uniqueViewers() {
+            return sketch.estimate();
+        }
+
+        boolean isDirty() {
+            return dirty.get();
+        }
+
+        // flush 대상 조회수를 꺼냄 (반영된 조회수로 옮김) - 꺼낸 뒤의 조회는 다음 flush 로
+        long drain() {
+            dirty.set(false);
+            long drained = pendingViews.sumThenReset();
+            flushedViews += drained;
+            return drained;
+        }
+
+        // 반영 실패 - 다시 대기 상태로
+        void restore(long drained) {
+            flushedViews -= drained;
+            pendingViews.add(drained);
+            dirty.set(true);
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentCreatedEvent;
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikedChangedEvent;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import com.sparta.wildcard_newsfeed.domain.post.dto.*;
+import com.sparta.wildcard_newsfeed.domain.post.repository.PostRepository;
+import com.sparta.wildcard_newsfeed.util.CursorUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 최근 window-minutes 분 동안의 좋아요/댓글로 계산한 인기 게시물 (sortBy = TRENDING)
+ * - 게시물마다 분 단위 버킷 링 버퍼에 활동량을 누적하고, 오래된 버킷일수록 반감기(half-life-minutes)에 따라 가중치를 낮춤
+ * - refresh-ms 마다 윈도우 안에 활동이 있는 게시물만 점수를 계산해서 크기 K 의 최소 힙으로 상위 K 개를 고르고, 게시물 정보는 이때 한 번만 조회
+ *   (전체 게시물이 아니라 활동 중인 게시물만 다시 훑음 - 윈도우가 지난 게시물은 이때 제거)
+ * - 요청 시점에는 SQL 없이 미리 만들어 둔 목록을 잘라서 반환
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingService {
+
+    public static final String SORT_TRENDING = "TRENDING";
+
+    private final PostRepository postRepository;
+
+    @Value("${newsfeed.trending.window-minutes:60}")
+    private int windowMinutes;
+
+    @Value("${newsfeed.trending.half-life-minutes:30}")
+    private double halfLifeMinutes;
+
+    @Value("${newsfeed.trending.top-k:100}")
+    private int topK;
+
+    @Value("${newsfeed.trending.like-weight:1}")
+    private long likeWeight;
+
+    @Value("${newsfeed.trending.comment-weight:2}")
+    private long commentWeight;
+
+    private final Map<Long, PostActivity> activities = new ConcurrentHashMap<>();
+    private volatile List<PostPageResponseDto> topPosts = List.of();
+    // refresh 가 조회한 뒤 삭제된 게시물이 목록에 다시 들어가지 않도록 기록 (다음 refresh 가 끝나면 정리)
+    private final Set<Long> deletedPostIds = ConcurrentHashMap.newKeySet();
+    private final Object topPostsLock = new Object();
+    // 목록이 바뀔 때마다 증가 (ETag 용)
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+
+    private record ScoredPost(Long postId, double score) {
+    }
+
+    public static boolean isTrending(PostPageRequestDto requestDto) {
+        return SORT_TRENDING.equals(requestDto.getSortBy());
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    @TransactionalEventListener
+    public void onLikedChanged(LikedChangedEvent event) {
+        if (event.getContentsType() == ContentsTypeEnum.POST) {
+            record(event.getContentsId(), event.isLiked() ? likeWeight : -likeWeight, currentMinute());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onCommentCreated(CommentCreatedEvent event) {
+        record(event.getPostId(), commentWeight, currentMinute());
+    }
+
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        deletedPostIds.add(event.getPostId());
+        activities.remove(event.getPostId());
+        synchronized (topPostsLock) {
+            topPosts = topPosts.stream()
+                    .filter(post -> !post.getPostId().equals(event.getPostId()))
+                    .toList();
+            version.incrementAndGet();
+        }
+    }
+
+    void record(Long postId, long weight, long minute) {
+        activities.compute(postId, (id, activity) -> {
+            PostActivity target = activity != null ? activity : new PostActivity(windowMinutes);
+            target.add(minute, weight);
+            return target;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${newsfeed.trending.refresh-ms:10000}")
+    public void refresh() {
+        refresh(currentMinute());
+    }
+
+    void refresh(long minute) {
+        // 조회 전에 삭제된 게시물은 조회 결과에 없으므로 이번 refresh 가 끝나면 기록에서 지움
+        Set<Long> deletedBefore = Set.copyOf(deletedPostIds);
+        // 점수가 가장 낮은 게시물이 맨 앞에 오는 크기 K 의 힙
+        PriorityQueue<ScoredPost> heap = new PriorityQueue<>(
+                Comparator.comparingDouble(ScoredPost::score).thenComparing(ScoredPost::postId));
+        for (Long postId : activities.keySet()) {
+            // 윈도우를 벗어난 게시물은 제거 (그 사이 새 활동이 들어왔으면 유지)
+            PostActivity activity = activities.computeIfPresent(postId, (id, a) -> a.isExpired(minute) ? null : a);
+            if (activity == null) {
+                continue;
+            }
+            double score = activity.score(minute, halfLifeMinutes);
+            if (score <= 0) {
+                continue;
+            }
+            heap.offer(new ScoredPost(postId, score));
+            if (heap.size() > topK) {
+                heap.poll();
+            }
+        }
+
+        List<Long> rankedIds = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            rankedIds.add(heap.poll().postId());
+        }
+        Collections.reverse(rankedIds);
+
+        Map<Long, PostPageResponseDto> posts = rankedIds.isEmpty() ? Map.of() :
+                postRepository.findPostPagesByIds(rankedIds).stream()
+                        .collect(Collectors.toMap(PostPageResponseDto::getPostId, Function.identity()));
+
+        synchronized (topPostsLock) {
+            List<PostPageResponseDto> refreshed = rankedIds.stream()
+                    .filter(posts::containsKey)
+                    .filter(postId -> !deletedPostIds.contains(postId))
+                    .map(posts::get)
+                    .toList();
+            if (!samePosts(topPosts, refreshed)) {
+                version.incrementAndGet();
+            }
+            topPosts = refreshed;
+            deletedPostIds.removeAll(deletedBefore);
+        }
+    }
+
+    public List<PostPageResponseDto> getTopPosts() {
+        return topPosts;
+    }
+
+    public Page<PostPageResponseDto> getTrendingPage(PostPageRequestDto requestDto) {
+        validateSize(requestDto);
+        List<PostPageResponseDto> posts = topPosts;
+        if (posts.isEmpty()) {
+            throw new IllegalArgumentException("페이지가 존재하지 않습니다.");
+        }
+        int from = (requestDto.getPage() - 1) * requestDto.getSize();
+        if (from >= posts.size()) {
+            throw new IllegalArgumentException("유효한 페이지 번호가 아닙니다.");
+        }
+        int to = Math.min(from + requestDto.getSize(), posts.size());
+        return new PageImpl<>(posts.subList(from, to),
+                PageRequest.of(requestDto.getPage() - 1, requestDto.getSize()), posts.size());
+    }
+
+    public PostSlicePageResponseDto getTrendingSlicePage(PostPageRequestDto requestDto) {
+        validateSize(requestDto);
+        List<PostPageResponseDto> posts = topPosts;
+        int from = (requestDto.getPage() - 1) * requestDto.getSize();
+        if (from >= posts.size()) {
+            if (requestDto.getPage() > 1) {
+                throw new IllegalArgumentException("유효한 페이지 번호가 아닙니다.");
+            }
+            throw new IllegalArgumentException("페이지가 존재하지 않습니다.");
+        }
+        int to = Math.min(from + requestDto.getSize(), posts.size());
+        List<PostPageResponseDto> content = posts.subList(from, to);
+        Long totalCount = requestDto.isWithTotalCount() ? (long) posts.size() : null;
+        return new PostSlicePageResponseDto(content, requestDto.getPage(), content.size(), to < posts.size(), totalCount);
+    }
+
+    // 커서는 (정렬 기준, 다음 위치, 마지막 게시물 ID) - 그 사이 순위가 바뀌었으면 마지막 게시물 다음부터 이어서 조회
+    public PostCursorPageResponseDto getTrendingCursorPage(PostPageRequestDto requestDto) {
+        validateSize(requestDto);
+        List<PostPageResponseDto> posts = topPosts;
+        int from = 0;
+        if (requestDto.getCursor() != null && !requestDto.getCursor().isBlank()) {
+            String[] values = CursorUtils.decode(requestDto.getCursor(), 3);
+            if (!SORT_TRENDING.equals(values[0])) {
+                throw new IllegalArgumentException("정렬 기준과 커서가 일치하지 않습니다.");
+            }
+            from = parseCursorPosition(posts, values);
+        }
+        int to = Math.min(from + requestDto.getSize(), posts.size());
+        List<PostPageResponseDto> content = from < to ? posts.subList(from, to) : List.of();
+        boolean hasNext = to < posts.size();
+        String nextCursor = hasNext
+                ? CursorUtils.encode(SORT_TRENDING, to, content.get(content.size() - 1).getPostId())
+                : null;
+        return new PostCursorPageResponseDto(content, content.size(), hasNext, nextCursor);
+    }
+
+    private int parseCursorPosition(List<PostPageResponseDto> posts, String[] values) {
+        try {
+            int position = Integer.parseInt(values[1]);
+            long lastPostId = Long.parseLong(values[2]);
+            for (int i = 0; i < posts.size(); i++) {
+                if (posts.get(i).getPostId() == lastPostId) {
+                    return i + 1;
+                }
+            }
+            return Math.max(position, 0);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+
+    private void validateSize(PostPageRequestDto requestDto) {
+        if (requestDto.getSize() < 1) {
+            throw new IllegalArgumentException("게시글 수는 1 이상이어야 합니다.");
+        }
+    }
+
+    // 순서와 응답에 나가는 모든 필드가 같을 때만 같은 목록 (ETag 버전 유지)
+    private boolean samePosts(List<PostPageResponseDto> before, List<PostPageResponseDto> after) {
+        if (before.size() != after.size()) {
+            return false;
+        }
+        for (int i = 0; i < before.size(); i++) {
+            if (!samePost(before.get(i), after.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean samePost(PostPageResponseDto before, PostPageResponseDto after) {
+        return Objects.equals(before.getPostId(), after.getPostId())
+                && Objects.equals(before.getUserId(), after.getUserId())
+                && Objects.equals(before.getTitle(), after.getTitle())
+                && Objects.equals(before.getContent(), after.getContent())
+                && Objects.equals(before.getName(), after.getName())
+                && Objects.equals(before.getCreatedAt(), after.getCreatedAt())
+                && Objects.equals(before.getUpdatedAt(), after.getUpdatedAt())
+                && Objects.equals(before.getLikeCount(), after.getLikeCount())
+                && Objects.equals(before.getCommentCount(), after.getCommentCount());
+    }
+
+    private long currentMinute() {
+        return System.currentTimeMillis() / 60_000;
+    }
+
+    /**
+     * 게시물 하나의 분 단위 활동량 링 버퍼 (슬롯 = 분 % 윈도우 크기)
+     */
+    static final class PostActivity {
+        private final long[] counts;
+        private final long[] minutes;
+
+        PostActivity(int windowMinutes) {
+            this.counts = new long[windowMinutes];
+            this.minutes = new long[windowMinutes];
+            Arrays.fill(minutes, -1);
+        }
+
+        synchronized void add(long minute, long weight) {
+            int slot = (int) (minute % counts.length);
+            // 한 바퀴 전의 버킷이면 비우고 재사용
+            if (minutes[slot] != minute) {
+                minutes[slot] = minute;
+                counts[slot] = 0;
+            }
+            counts[slot] += weight;
+        }
+
+        // 최근 버킷일수록 가중치가 큰 지수 감쇠 합
+        synchronized double score(long now, double halfLifeMinutes) {
+            double score = 0;
+            for (int i = 0; i < counts.length; i++) {
+                long age = now - minutes[i];
+                if (minutes[i] >= 0 && age >= 0 && age < counts.length) {
+                    score += counts[i] * Math.pow(0.5, age / halfLifeMinutes);
+                }
+            }
+            return score;
+        }
+
+        synchronized boolean isExpired(long now) {
+            for (long minute : minutes) {
+                if (minute >= 0 && now - minute < counts.length) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.sparta.wildcard_newsfeed.domain.timeline.controller;
+
+import com.sparta.wildcard_newsfeed.domain.common.CommonResponseDto;
+import com.sparta.wildcard_newsfeed.domain.timeline.dto.TimelineResponseDto;
+import com.sparta.wildcard_newsfeed.domain.timeline.service.TimelineService;
+import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/timeline")
+@Tag(name = "Timeline 컨트롤러", description = "Timeline API")
+public class TimelineController {
+
+    private final TimelineService timelineService;
+
+    // 팔로우한 사용자 + 본인 게시물로 구성된 홈 타임라인
+    @GetMapping
+    @Operation(summary = "홈 타임라인 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "홈 타임라인 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CommonResponseDto.class)))
+    })
+    public ResponseEntity<CommonResponseDto<TimelineResponseDto>> getHomeTimeline(
+            @AuthenticationPrincipal AuthenticationUser user,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "size", defaultValue = "10") int size
+    ) {
+        TimelineResponseDto responseDto = timelineService.getHomeTimeline(user, cursor, size);
+        return ResponseEntity.ok()
+                .body(CommonResponseDto.<TimelineResponseDto>builder()
+                        .statusCode(HttpStatus.OK.value())
+                        .message("홈 타임라인 조회 성공")
+                        .data(responseDto)
+                        .build());
+    }
+}
@@ -0,0 +1,14 @@
+package com.sparta.wildcard_newsfeed.domain.timeline.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 타임라인 병합용 게시물 키 (createdAt, postId)
+@Getter
+@AllArgsConstructor
+public class TimelineEntryDto {
+    private Long postId;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,16 @@
+package com.sparta.wildcard_newsfeed.domain.timeline.dto;
+
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class TimelineResponseDto {
+    private List<PostResponseDto> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor; // 마지막 페이지면 null
+}
@@ -0,0 +1,36 @@
+package com.sparta.wildcard_newsfeed.domain.timeline.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 홈 타임라인에 미리 배달(fan-out)된 게시물 id
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_timeline_inbox_user_post", columnNames = {"user_id", "post_id"}),
+        indexes = {
+                @Index(name = "idx_timeline_inbox_user_created_post", columnList = "user_id, post_created_at, post_id"),
+                // 게시물 삭제 시 배달된 행 정리
+                @Index(name = "idx_timeline_inbox_post", columnList = "post_id")
+        }
+)
+public class TimelineInbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId; // 타임라인 주인
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "post_created_at", nullable = false)
+    private LocalDateTime postCreatedAt;
+}
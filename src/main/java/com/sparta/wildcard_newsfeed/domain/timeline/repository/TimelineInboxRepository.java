@@ -0,0 +1,23 @@
+package com.sparta.wildcard_newsfeed.domain.timeline.repository;
+
+import com.sparta.wildcard_newsfeed.domain.timeline.entity.TimelineInbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TimelineInboxRepository extends JpaRepository<TimelineInbox, Long> {
+
+    // (user_id, post_created_at, post_id) 인덱스 범위 조회
+    @Query("select t from TimelineInbox t " +
+            "where t.userId = :userId " +
+            "and (t.postCreatedAt < :cursorCreatedAt or (t.postCreatedAt = :cursorCreatedAt and t.postId < :cursorPostId)) " +
+            "order by t.postCreatedAt desc, t.postId desc")
+    List<TimelineInbox> findTimeline(@Param("userId") Long userId,
+                                     @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                     @Param("cursorPostId") Long cursorPostId,
+                                     Pageable pageable);
+}
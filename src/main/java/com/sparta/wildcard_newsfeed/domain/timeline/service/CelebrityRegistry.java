@@ -0,0 +1,76 @@
+package com.sparta.wildcard_newsfeed.domain.timeline.service;
+
+import com.sparta.wildcard_newsfeed.domain.follow.repository.FollowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 팔로워 수가 기준 이상인 작성자 목록
+ * 이 작성자들의 게시물은 팔로워 타임라인에 배달하지 않고 조회 시점에 가져와서 병합 (pull)
+ * 기준 아래로 내려간 작성자는 최근 게시물을 팔로워들에게 재배달한 뒤에 병합 대상에서 제외
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CelebrityRegistry {
+
+    private final FollowRepository followRepository;
+    private final TimelineBackfillService timelineBackfillService;
+
+    @Value("${newsfeed.timeline.celebrity-threshold:10000}")
+    private long threshold;
+
+    // 새 게시물을 배달하지 않는 작성자
+    private volatile Set<Long> celebrityIds = Set.of();
+    // 조회 시 병합하는 작성자 - celebrity + 재배달이 끝나지 않은 작성자
+    private volatile Set<Long> pullAuthorIds = Set.of();
+    // 기준 아래로 내려갔지만 아직 재배달하지 못한 작성자 (실패 시 다음 갱신 때 다시 시도)
+    private final Set<Long> pendingRedelivery = ConcurrentHashMap.newKeySet();
+
+    @Scheduled(fixedDelayString = "${newsfeed.timeline.celebrity-refresh-ms:300000}")
+    public synchronized void refresh() {
+        Set<Long> current = Set.copyOf(followRepository.findUserIdsByFollowerCountAtLeast(threshold));
+        for (Long authorId : celebrityIds) {
+            if (!current.contains(authorId)) {
+                pendingRedelivery.add(authorId);
+            }
+        }
+        pendingRedelivery.removeAll(current);
+
+        // 빠진 작성자의 새 게시물은 바로 push 로 배달하고, pull 로만 보이던 게시물은 재배달이 끝날 때까지 계속 병합
+        celebrityIds = current;
+        pullAuthorIds = union(current, pendingRedelivery);
+        for (Long authorId : List.copyOf(pendingRedelivery)) {
+            try {
+                timelineBackfillService.redeliverRecentPosts(authorId);
+                pendingRedelivery.remove(authorId);
+            } catch (RuntimeException e) {
+                log.error("pull 대상 해제 작성자 재배달 실패 authorId: {}", authorId, e);
+            }
+        }
+        pullAuthorIds = union(current, pendingRedelivery);
+        log.info("pull 대상 작성자 수: {}, 재배달 대기: {}", current.size(), pendingRedelivery.size());
+    }
+
+    public boolean isCelebrity(Long userId) {
+        return celebrityIds.contains(userId);
+    }
+
+    public Set<Long> getPullAuthorIds() {
+        return pullAuthorIds;
+    }
+
+    private Set<Long> union(Set<Long> a, Set<Long> b) {
+        Set<Long> union = new HashSet<>(a);
+        union.addAll(b);
+        return Set.copyOf(union);
+    }
+}
@@ -0,0 +1,95 @@
+package com.sparta.wildcard_newsfeed.domain.timeline.service;
+
+import com.sparta.wildcard_newsfeed.domain.follow.repository.FollowRepository;
+import com.sparta.wildcard_newsfeed.domain.post.repository.PostRepository;
+import com.sparta.wildcard_newsfeed.domain.timeline.dto.TimelineEntryDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 팔로우 관계가 바뀔 때 이미 작성된 게시물을 타임라인에 채우거나 제거
+ * 새 게시물 배달(TimelineFanoutService)과 같은 insert ignore 를 사용하므로 중복 배달되어도 한 건
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimelineBackfillService {
+
+    private static final String INSERT_SQL =
+            "insert ignore into timeline_inbox (user_id, post_id, post_created_at) values (?, ?, ?)";
+    private static final String DELETE_AUTHOR_POSTS_SQL =
+            "delete from timeline_inbox where user_id = ? and post_id in (select p.id from post p where p.user_id = ?)";
+
+    private final PostRepository postRepository;
+    private final FollowRepository followRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${newsfeed.timeline.backfill-size:50}")
+    private int backfillSize;
+
+    @Value("${newsfeed.timeline.fanout-batch-size:500}")
+    private int batchSize;
+
+    // 팔로우 시 작성자의 최근 게시물 backfill-size 개를 팔로워 타임라인에 배달
+    public int deliverRecentPosts(Long authorId, Long followerId) {
+        List<TimelineEntryDto> entries = findRecentPosts(authorId);
+        insert(List.of(followerId), entries);
+        return entries.size();
+    }
+
+    // 언팔로우 시 팔로워 타임라인에서 작성자의 게시물 제거
+    public int removeAuthorPosts(Long authorId, Long followerId) {
+        int deleted = jdbcTemplate.update(DELETE_AUTHOR_POSTS_SQL, followerId, authorId);
+        log.info("타임라인에서 작성자 게시물 제거 followerId: {}, authorId: {}, 삭제 수: {}", followerId, authorId, deleted);
+        return deleted;
+    }
+
+    // pull 대상에서 빠진 작성자의 최근 게시물을 모든 팔로워 타임라인에 배달 (pull 로만 보이던 게시물이 사라지지 않도록)
+    public int redeliverRecentPosts(Long authorId) {
+        List<TimelineEntryDto> entries = findRecentPosts(authorId);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        long lastFollowerId = 0L;
+        int delivered = 0;
+        while (true) {
+            List<Long> followerIds = followRepository.findFollowerIds(authorId, lastFollowerId, PageRequest.of(0, batchSize));
+            if (followerIds.isEmpty()) {
+                break;
+            }
+            insert(followerIds, entries);
+            delivered += followerIds.size();
+            lastFollowerId = followerIds.get(followerIds.size() - 1);
+            if (followerIds.size() < batchSize) {
+                break;
+            }
+        }
+        log.info("pull 대상 해제 작성자 재배달 authorId: {}, 게시물 수: {}, 팔로워 수: {}", authorId, entries.size(), delivered);
+        return delivered;
+    }
+
+    List<TimelineEntryDto> findRecentPosts(Long authorId) {
+        return postRepository.findRecentTimelineEntriesByUserId(authorId, PageRequest.of(0, backfillSize));
+    }
+
+    void insert(List<Long> userIds, List<TimelineEntryDto> entries) {
+        if (userIds.isEmpty() || entries.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(userIds.size() * entries.size());
+        for (Long userId : userIds) {
+            for (TimelineEntryDto entry : entries) {
+                args.add(new Object[]{userId, entry.getPostId(), Timestamp.valueOf(entry.getCreatedAt())});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+    }
+}
@@ -0,0 +1,116 @@
+package com.sparta.wildcard_newsfeed.domain.timeline.service;
+
+import com.sparta.wildcard_newsfeed.domain.follow.repository.FollowRepository;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostCreatedEvent;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostDeletedEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 새 게시물을 작성자와 팔로워들의 타임라인에 배달 (fan-out-on-write)
+ * 게시물 등록 트랜잭션이 커밋된 후 별도 스레드에서 팔로워를 나눠서 처리
+ * 팔로워가 많은 작성자(CelebrityRegistry)는 작성자 본인에게만 배달하고 나머지는 조회 시점에 병합
+ * 게시물이 삭제되면 배달했던 행을 같은 크기로 나눠서 삭제
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimelineFanoutService {
+
+    private static final String INSERT_SQL =
+            "insert ignore into timeline_inbox (user_id, post_id, post_created_at) values (?, ?, ?)";
+    private static final String DELETE_SQL =
+            "delete from timeline_inbox where post_id = ? limit ?";
+
+    private final FollowRepository followRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final CelebrityRegistry celebrityRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${newsfeed.timeline.fanout-batch-size:500}")
+    private int batchSize;
+
+    @Async
+    @TransactionalEventListener
+    public void fanout(PostCreatedEvent event) {
+        log.info("타임라인 배달 시작 {}", event);
+        long startNanos = System.nanoTime();
+        Timestamp createdAt = Timestamp.valueOf(event.getCreatedAt());
+
+        // 작성자 본인의 타임라인
+        insertBatch(List.of(event.getUserId()), event.getPostId(), createdAt);
+        int delivered = 1;
+
+        // 팔로워가 많은 작성자는 배달하지 않고 조회 시점에 병합 (pull)
+        boolean pull = celebrityRegistry.isCelebrity(event.getUserId());
+        if (!pull) {
+            delivered += fanoutToFollowers(event.getUserId(), event.getPostId(), createdAt);
+        }
+
+        String mode = pull ? "pull" : "push";
+        Timer.builder("timeline.fanout.duration")
+                .description("게시물 1건 배달 소요 시간")
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("timeline.fanout.deliveries")
+                .description("게시물 1건당 배달한 타임라인 수")
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .record(delivered);
+        log.info("타임라인 배달 완료 postId: {}, 방식: {}, 배달 수: {}", event.getPostId(), mode, delivered);
+    }
+
+    // 조회 시 삭제된 게시물은 걸러지지만, 남은 행이 타임라인 페이지를 채워서 빈 페이지가 되지 않도록 정리
+    @Async
+    @TransactionalEventListener
+    public void onPostDeleted(PostDeletedEvent event) {
+        long deleted = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update(DELETE_SQL, event.getPostId(), batchSize);
+            deleted += updated;
+        } while (updated == batchSize);
+        log.info("타임라인 배달 정리 postId: {}, 삭제 수: {}", event.getPostId(), deleted);
+    }
+
+    private int fanoutToFollowers(Long authorId, Long postId, Timestamp createdAt) {
+        long lastFollowerId = 0L;
+        int delivered = 0;
+        while (true) {
+            List<Long> followerIds = followRepository.findFollowerIds(authorId, lastFollowerId, PageRequest.of(0, batchSize));
+            if (followerIds.isEmpty()) {
+                break;
+            }
+            insertBatch(followerIds, postId, createdAt);
+            delivered += followerIds.size();
+            lastFollowerId = followerIds.get(followerIds.size() - 1);
+            if (followerIds.size() < batchSize) {
+                break;
+            }
+        }
+        return delivered;
+    }
+
+    private void insertBatch(List<Long> userIds, Long postId, Timestamp createdAt) {
+        List<Object[]> args = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            args.add(new Object[]{userId, postId, createdAt});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+    }
+}
@@ -0,0 +1,49 @@
+package com.sparta.wildcard_newsfeed.domain.timeline.service;
+
+import com.sparta.wildcard_newsfeed.domain.timeline.dto.TimelineEntryDto;
+
+import java.util.*;
+
+/**
+ * (createdAt, postId) 내림차순으로 정렬된 여러 목록을 하나로 병합 (k-way merge)
+ */
+public class TimelineMerger {
+
+    private static final Comparator<TimelineEntryDto> LATEST_FIRST =
+            Comparator.comparing(TimelineEntryDto::getCreatedAt)
+                    .thenComparing(TimelineEntryDto::getPostId)
+                    .reversed();
+
+    private TimelineMerger() {
+    }
+
+    /**
+     * 각 목록은 이미 최신순으로 정렬되어 있어야 함
+     * 같은 게시물이 여러 목록에 있으면 한 번만 포함
+     */
+    public static List<TimelineEntryDto> merge(List<List<TimelineEntryDto>> sources, int limit) {
+        PriorityQueue<Head> heap = new PriorityQueue<>((a, b) -> LATEST_FIRST.compare(a.entry, b.entry));
+        for (List<TimelineEntryDto> source : sources) {
+            Iterator<TimelineEntryDto> iterator = source.iterator();
+            if (iterator.hasNext()) {
+                heap.add(new Head(iterator.next(), iterator));
+            }
+        }
+
+        List<TimelineEntryDto> merged = new ArrayList<>(limit);
+        Set<Long> postIds = new HashSet<>();
+        while (!heap.isEmpty() && merged.size() < limit) {
+            Head head = heap.poll();
+            if (postIds.add(head.entry.getPostId())) {
+                merged.add(head.entry);
+            }
+            if (head.iterator.hasNext()) {
+                heap.add(new Head(head.iterator.next(), head.iterator));
+            }
+        }
+        return merged;
+    }
+
+    private record Head(TimelineEntryDto entry, Iterator<TimelineEntryDto> iterator) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.sparta.wildcard_newsfeed.domain.timeline.service;
+
+import com.sparta.wildcard_newsfeed.domain.follow.repository.FollowRepository;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.post.repository.PostRepository;
+import com.sparta.wildcard_newsfeed.domain.timeline.dto.TimelineEntryDto;
+import com.sparta.wildcard_newsfeed.domain.timeline.dto.TimelineResponseDto;
+import com.sparta.wildcard_newsfeed.domain.timeline.repository.TimelineInboxRepository;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
+import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
+import com.sparta.wildcard_newsfeed.util.CursorUtils;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimelineService {
+
+    private static final int MAX_SIZE = 100;
+    private static final LocalDateTime FIRST_CURSOR_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final TimelineInboxRepository timelineInboxRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final FollowRepository followRepository;
+    private final CelebrityRegistry celebrityRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Transactional(readOnly = true)
+    public TimelineResponseDto getHomeTimeline(AuthenticationUser user, String cursor, int size) {
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("게시글 수는 1 이상 " + MAX_SIZE + " 이하만 가능합니다.");
+        }
+        User currentUser = userRepository.findByUsercode(user.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        LocalDateTime cursorCreatedAt = FIRST_CURSOR_CREATED_AT;
+        long cursorPostId = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] values = CursorUtils.decode(cursor, 2);
+            try {
+                cursorCreatedAt = LocalDateTime.parse(values[0]);
+                cursorPostId = Long.parseLong(values[1]);
+            } catch (Exception e) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        int limit = size + 1;
+        long startNanos = System.nanoTime();
+
+        // push: 미리 배달된 타임라인
+        List<List<TimelineEntryDto>> sources = new ArrayList<>();
+        sources.add(timelineInboxRepository.findTimeline(currentUser.getId(), cursorCreatedAt, cursorPostId, PageRequest.of(0, limit))
+                .stream()
+                .map(inbox -> new TimelineEntryDto(inbox.getPostId(), inbox.getPostCreatedAt()))
+                .toList());
+
+        // pull: 팔로우 중인 팔로워가 많은 작성자(재배달 중인 작성자 포함)의 게시물을 작성자별로 조회
+        Set<Long> pullAuthorIds = celebrityRegistry.getPullAuthorIds();
+        if (!pullAuthorIds.isEmpty()) {
+            for (Long authorId : followRepository.findFollowingIdsIn(currentUser.getId(), pullAuthorIds)) {
+                sources.add(postRepository.findTimelineEntriesByUserId(authorId, cursorCreatedAt, cursorPostId, PageRequest.of(0, limit)));
+            }
+        }
+
+        List<TimelineEntryDto> entries = TimelineMerger.merge(sources, limit);
+
+        Timer.builder("timeline.merge.duration")
+                .description("홈 타임라인 1회 조회 시 조회 + 병합 소요 시간")
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("timeline.merge.sources")
+                .description("홈 타임라인 1회 조회 시 병합한 목록 수 (push 1 + pull 작성자 수)")
+                .register(meterRegistry)
+                .record(sources.size());
+
+        boolean hasNext = entries.size() > size;
+        if (hasNext) {
+            entries = entries.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            TimelineEntryDto last = entries.get(entries.size() - 1);
+            nextCursor = CursorUtils.encode(last.getCreatedAt(), last.getPostId());
+        }
+
+        // 삭제된 게시물은 빠지므로 size 는 실제로 내려주는 게시물 수
+        List<PostResponseDto> posts = toPostResponses(entries);
+        return new TimelineResponseDto(posts, posts.size(), hasNext, nextCursor);
+    }
+
+    // 게시물 id 목록을 한 번의 IN 쿼리로 조회하고 타임라인 순서대로 정렬 (삭제된 게시물은 제외)
+    private List<PostResponseDto> toPostResponses(List<TimelineEntryDto> entries) {
+        List<Long> postIds = entries.stream().map(TimelineEntryDto::getPostId).toList();
+        Map<Long, Post> postMap = postRepository.findByIdIn(postIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        List<PostResponseDto> posts = new ArrayList<>();
+        for (Long postId : postIds) {
+            Post post = postMap.get(postId);
+            if (post != null) {
+                posts.add(new PostResponseDto(post));
+            }
+        }
+        return posts;
+    }
+}
@@ -2,11 +2,17 @@ package com.sparta.wildcard_newsfeed.domain.user.repository;
 
 import com.sparta.wildcard_newsfeed.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsercode(String usercode);
 
+    // 비밀번호, 리프레시 토큰 등 나머지 컬럼 없이 ID 만 조회 (좋아요 처리용)
+    @Query("select u.id from User u where u.usercode = :usercode")
+    Optional<Long> findIdByUsercode(@Param("usercode") String usercode);
+
     Optional<User> findByUsercodeOrEmail(String usercode, String email);
 }
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.sparta.wildcard_newsfeed.util;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * 집계 컬럼 보정 작업(좋아요 수, 댓글 수 등)이 함께 쓰는 chunk 반복
+ * - id > lastId 순으로 chunk-size 건씩 읽어서 fixer 에 넘기고, chunk 마다 트랜잭션 없이 바로 커밋
+ * - chunk 사이에 pause-ms 만큼 쉬어서 요청 처리와 경합하지 않도록 함 (테이블 전체 잠금 없음)
+ * - fixer 는 읽었을 때의 버전 컬럼이 그대로인 행만 수정해야 함 (값으로 비교하면 제자리로 돌아온 변경을 놓침)
+ */
+public class ChunkedReconciler {
+
+    private ChunkedReconciler() {
+    }
+
+    // scanned: 확인한 행 수, fixed: 바로잡은 행 수
+    public record ReconcileResult(long scanned, long fixed) {
+
+        public ReconcileResult plus(ReconcileResult other) {
+            return new ReconcileResult(scanned + other.scanned, fixed + other.fixed);
+        }
+    }
+
+    // chunk 하나를 비교해서 바로잡고 바로잡은 행 수 반환
+    @FunctionalInterface
+    public interface ChunkFixer<T> {
+        long fix(List<T> rows);
+    }
+
+    /**
+     * selectSql 은 (lastId, chunkSize) 두 파라미터로 id 순 chunk 를 읽는 쿼리 (where id > ? order by id limit ?)
+     *
+     * @param name 중단 시 예외 메시지에 쓸 작업 이름
+     */
+    public static <T> ReconcileResult run(JdbcTemplate jdbcTemplate, String selectSql, RowMapper<T> rowMapper,
+                                          ToLongFunction<T> idOf, int chunkSize, long pauseMs,
+                                          String name, ChunkFixer<T> fixer) {
+        long scanned = 0;
+        long fixed = 0;
+        long lastId = 0;
+        while (true) {
+            List<T> rows = jdbcTemplate.query(selectSql, rowMapper, lastId, chunkSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            scanned += rows.size();
+            fixed += fixer.fix(rows);
+            lastId = idOf.applyAsLong(rows.get(rows.size() - 1));
+            if (rows.size() < chunkSize) {
+                break;
+            }
+            pause(pauseMs, name);
+        }
+        return new ReconcileResult(scanned, fixed);
+    }
+
+    private static void pause(long pauseMs, String name) {
+        if (pauseMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(name + "이 중단되었습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.sparta.wildcard_newsfeed.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class CursorUtils {
+
+    private static final String DELIMITER = "|";
+
+    private CursorUtils() {
+    }
+
+    /**
+     * 커서 값들을 클라이언트가 해석할 수 없는 문자열로 인코딩
+     */
+    public static String encode(Object... values) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(DELIMITER);
+            }
+            sb.append(values[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 인코딩된 커서를 원래 값들로 복원, 형식이 맞지 않으면 예외
+     */
+    public static String[] decode(String cursor, int expectedSize) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split("\\" + DELIMITER, -1);
+            if (values.length != expectedSize) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
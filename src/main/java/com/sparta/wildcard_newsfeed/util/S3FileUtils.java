@@ -1,14 +1,27 @@
 package com.sparta.wildcard_newsfeed.util;
 
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
 import com.sparta.wildcard_newsfeed.config.S3Config;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 @Slf4j
 @Component
@@ -20,10 +33,76 @@ public class S3FileUtils {
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    // 멀티파트 업로드 part 크기 (S3 최소 5MB) - 업로드 하나가 메모리에 유지하는 최대 크기
+    @Value("${newsfeed.file.upload.part-size-mb:8}")
+    private int partSizeMb;
+
     public String uploadFile(String uuidFileName, File saveFile) {
         s3Config.amazonS3Client().putObject(
                 new PutObjectRequest(bucket, uuidFileName, saveFile).withCannedAcl(CannedAccessControlList.PublicRead)
         );
         return s3Config.amazonS3Client().getUrl(bucket, uuidFileName).toString();
     }
-}
\ No newline at end of file
+
+    // 별도 로컬 파일을 만들지 않고 입력 스트림을 그대로 업로드 - part 크기 이하는 한 번에, 넘으면 part 단위 멀티파트 업로드
+    public String uploadStream(String uuidFileName, InputStream inputStream, long contentLength, String contentType) throws IOException {
+        AmazonS3Client amazonS3Client = s3Config.amazonS3Client();
+        int partSize = partSizeMb * 1024 * 1024;
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        if (contentType != null) {
+            metadata.setContentType(contentType);
+        }
+
+        if (contentLength <= partSize) {
+            metadata.setContentLength(contentLength);
+            PutObjectRequest request = new PutObjectRequest(bucket, uuidFileName, inputStream, metadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead);
+            // 재시도 시 처음부터 다시 보낼 수 있도록 파일 전체(최대 part 크기)만큼 버퍼링 허용
+            request.getRequestClientOptions().setReadLimit(partSize + 1);
+            amazonS3Client.putObject(request);
+        } else {
+            uploadMultipart(amazonS3Client, uuidFileName, inputStream, contentLength, metadata, partSize);
+        }
+        return amazonS3Client.getUrl(bucket, uuidFileName).toString();
+    }
+
+    // part 하나 크기의 버퍼를 재사용하며 순서대로 업로드, 실패하면 업로드를 취소해서 남은 part 정리
+    private void uploadMultipart(AmazonS3Client amazonS3Client, String key, InputStream inputStream, long contentLength,
+                                 ObjectMetadata metadata, int partSize) throws IOException {
+        String uploadId = amazonS3Client.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucket, key, metadata).withCannedACL(CannedAccessControlList.PublicRead)
+        ).getUploadId();
+
+        try {
+            byte[] buffer = new byte[partSize];
+            List<PartETag> partETags = new ArrayList<>();
+            long remaining = contentLength;
+            int partNumber = 1;
+            while (remaining > 0) {
+                int length = (int) Math.min(partSize, remaining);
+                int read = inputStream.readNBytes(buffer, 0, length);
+                if (read < length) {
+                    throw new EOFException("업로드 파일이 예상 크기보다 작습니다.");
+                }
+                partETags.add(amazonS3Client.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber++)
+                        .withInputStream(new ByteArrayInputStream(buffer, 0, read))
+                        .withPartSize(read)
+                ).getPartETag());
+                remaining -= read;
+            }
+            amazonS3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+        } catch (IOException | RuntimeException e) {
+            try {
+                amazonS3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+            } catch (RuntimeException abortException) {
+                log.error("S3 멀티파트 업로드 취소 실패: {}", key, abortException);
+            }
+            throw e;
+        }
+    }
+}
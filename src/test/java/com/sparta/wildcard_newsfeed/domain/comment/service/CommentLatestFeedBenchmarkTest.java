@@ -0,0 +1,145 @@
+package com.sparta.wildcard_newsfeed.domain.comment.service;
+
+import com.sparta.wildcard_newsfeed.config.JpaAuditing;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentCursorPageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.entity.Comment;
+import com.sparta.wildcard_newsfeed.domain.comment.repository.CommentRepository;
+import com.sparta.wildcard_newsfeed.domain.jpa.QueryCountInspector;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전체 댓글을 읽어 메모리에서 정렬하던 방식과 인덱스 기반 최신 댓글 커서 페이징 비교
+ * - 기본 test 태스크에서는 제외, ./gradlew benchmark 로 실행 (댓글 수는 -Dbenchmark.comments 로 조정)
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditing.class, CommentService.class})
+class CommentLatestFeedBenchmarkTest {
+
+    private static final int COMMENT_COUNT = Integer.getInteger("benchmark.comments", 1_000_000);
+    private static final int USER_COUNT = 100;
+    private static final int POST_COUNT = 1_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int PAGES = 20;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Test
+    void latestComments() {
+        List<Long> userIds = new ArrayList<>();
+        List<Long> postIds = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = new User("benchId" + i, "currentPWD999!", "bench" + i + "@gmail.com");
+            em.persist(user);
+            userIds.add(user.getId());
+        }
+        for (int i = 0; i < POST_COUNT; i++) {
+            Post post = new Post(new PostRequestDto("제목" + i, "내용" + i, null), em.find(User.class, userIds.get(i % USER_COUNT)));
+            em.persist(post);
+            postIds.add(post.getId());
+        }
+        em.flush();
+        em.clear();
+        insertComments(userIds, postIds);
+
+        // 이전 방식 - 전체 조회 후 작성일시 역순 정렬, 첫 페이지만 사용
+        QueryCountInspector.reset();
+        long start = System.nanoTime();
+        List<CommentResponseDto> legacy = commentRepository.findAll().stream()
+                .sorted(Comparator.comparing(Comment::getCreatedAt).reversed())
+                .map(CommentResponseDto::new)
+                .toList();
+        double legacyMillis = (System.nanoTime() - start) / 1_000_000.0;
+        long legacyQueries = QueryCountInspector.getCount();
+        em.clear();
+        log.info("latest comments (findAll + sort) - {} ms, {} rows materialized, {} queries",
+                String.format("%.1f", legacyMillis), legacy.size(), legacyQueries);
+
+        // 현재 방식 - 최신 댓글 PAGES 페이지를 커서로 이어서 조회
+        QueryCountInspector.reset();
+        start = System.nanoTime();
+        String cursor = null;
+        int rows = 0;
+        for (int i = 0; i < PAGES; i++) {
+            CommentCursorPageResponseDto page = commentService.getLatestComments(null, null, cursor, PAGE_SIZE);
+            rows += page.getContent().size();
+            cursor = page.getNextCursor();
+            em.clear();
+        }
+        double pageMillis = (System.nanoTime() - start) / 1_000_000.0 / PAGES;
+        log.info("latest comments (cursor page) - {} ms/page, {} rows over {} pages, {} queries",
+                String.format("%.2f", pageMillis), rows, PAGES, QueryCountInspector.getCount());
+
+        // 필터 - 게시물별, 작성자별 첫 페이지
+        start = System.nanoTime();
+        CommentCursorPageResponseDto byPost = commentService.getLatestComments(postIds.get(0), null, null, PAGE_SIZE);
+        double byPostMillis = (System.nanoTime() - start) / 1_000_000.0;
+        start = System.nanoTime();
+        CommentCursorPageResponseDto byUser = commentService.getLatestComments(null, userIds.get(0), null, PAGE_SIZE);
+        double byUserMillis = (System.nanoTime() - start) / 1_000_000.0;
+        log.info("latest comments (filtered page) - post: {} ms, user: {} ms",
+                String.format("%.2f", byPostMillis), String.format("%.2f", byUserMillis));
+
+        assertThat(legacy).hasSize(COMMENT_COUNT);
+        assertThat(rows).isEqualTo(PAGE_SIZE * PAGES);
+        assertThat(byPost.getContent()).hasSize(Math.min(PAGE_SIZE, COMMENT_COUNT / POST_COUNT));
+        assertThat(byUser.getContent()).hasSize(PAGE_SIZE);
+    }
+
+    // 엔티티를 거치지 않고 배치 insert - 작성일시는 1초 간격으로 과거부터 채움
+    private void insertComments(List<Long> userIds, List<Long> postIds) {
+        LocalDateTime base = LocalDateTime.now().minusSeconds(COMMENT_COUNT);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+            batch.add(new Object[]{postIds.get(i % POST_COUNT), userIds.get(i % USER_COUNT), "댓글" + i, createdAt, createdAt});
+            if (batch.size() == BATCH_SIZE) {
+                flushBatch(batch);
+            }
+        }
+        flushBatch(batch);
+    }
+
+    private void flushBatch(List<Object[]> batch) {
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate("insert into comment (post_id, user_id, content, like_count, reply_count, depth, " +
+                    "created_at, updated_at) values (?, ?, ?, 0, 0, 0, ?, ?)", batch);
+            batch.clear();
+        }
+    }
+}
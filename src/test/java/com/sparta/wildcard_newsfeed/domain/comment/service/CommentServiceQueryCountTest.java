@@ -0,0 +1,122 @@
+package com.sparta.wildcard_newsfeed.domain.comment.service;
+
+import com.sparta.wildcard_newsfeed.config.JpaAuditing;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentCursorPageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.entity.Comment;
+import com.sparta.wildcard_newsfeed.domain.jpa.QueryCountInspector;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 목록 조회 시 작성자(User) 지연 로딩으로 인한 N+1 쿼리가 다시 생기지 않는지 SQL 실행 횟수로 검증
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditing.class, CommentService.class})
+class CommentServiceQueryCountTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private CommentService commentService;
+
+    private Post post;
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        post = null;
+        users.clear();
+        for (int i = 0; i < 5; i++) {
+            User user = new User("testId" + i, "currentPWD999!", "test" + i + "@gmail.com");
+            em.persist(user);
+            users.add(user);
+
+            Post userPost = new Post(new PostRequestDto("제목" + i, "내용" + i, null), user);
+            em.persist(userPost);
+            if (post == null) {
+                post = userPost;
+            }
+            em.persist(new Comment("댓글" + i, user, post));
+        }
+        em.flush();
+        em.clear();
+        QueryCountInspector.reset();
+    }
+
+    @Test
+    void getCommentPage() {
+        // when - 2건씩 끝까지 이어서 조회
+        CommentCursorPageResponseDto first = commentService.getCommentPage(post.getId(), null, 2);
+        CommentCursorPageResponseDto second = commentService.getCommentPage(post.getId(), first.getNextCursor(), 2);
+        CommentCursorPageResponseDto last = commentService.getCommentPage(post.getId(), second.getNextCursor(), 2);
+
+        // then - 페이지마다 쿼리 한 번, 작성일시/ID 순으로 빠짐없이 조회
+        assertThat(first.getContent()).extracting(CommentResponseDto::getContent).containsExactly("댓글0", "댓글1");
+        assertThat(second.getContent()).extracting(CommentResponseDto::getContent).containsExactly("댓글2", "댓글3");
+        assertThat(last.getContent()).extracting(CommentResponseDto::getContent).containsExactly("댓글4");
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+        assertThat(first.getContent()).extracting(CommentResponseDto::getUsername).doesNotContainNull();
+        assertThat(QueryCountInspector.getCount()).isEqualTo(3);
+    }
+
+    @Test
+    void getCommentPageInvalidCursor() {
+        assertThatThrownBy(() -> commentService.getCommentPage(post.getId(), "invalid", 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+    }
+
+    @Test
+    void getLatestComments() {
+        // when - 필터 없이 2건씩 끝까지 이어서 조회
+        CommentCursorPageResponseDto first = commentService.getLatestComments(null, null, null, 2);
+        CommentCursorPageResponseDto second = commentService.getLatestComments(null, null, first.getNextCursor(), 2);
+        CommentCursorPageResponseDto last = commentService.getLatestComments(null, null, second.getNextCursor(), 2);
+
+        // then - 최신순, 페이지마다 쿼리 한 번
+        assertThat(first.getContent()).extracting(CommentResponseDto::getContent).containsExactly("댓글4", "댓글3");
+        assertThat(second.getContent()).extracting(CommentResponseDto::getContent).containsExactly("댓글2", "댓글1");
+        assertThat(last.getContent()).extracting(CommentResponseDto::getContent).containsExactly("댓글0");
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(first.getContent()).extracting(CommentResponseDto::getUsername).doesNotContainNull();
+        assertThat(QueryCountInspector.getCount()).isEqualTo(3);
+    }
+
+    @Test
+    void getLatestCommentsWithFilter() {
+        Long userId = users.get(2).getId();
+
+        // when
+        CommentCursorPageResponseDto byUser = commentService.getLatestComments(null, userId, null, 10);
+        CommentCursorPageResponseDto byPost = commentService.getLatestComments(post.getId(), null, null, 10);
+        CommentCursorPageResponseDto byPostAndUser = commentService.getLatestComments(post.getId(), userId, null, 10);
+        CommentCursorPageResponseDto otherPost = commentService.getLatestComments(post.getId() + 1, null, null, 10);
+
+        // then
+        assertThat(byUser.getContent()).extracting(CommentResponseDto::getContent).containsExactly("댓글2");
+        assertThat(byPost.getContent()).hasSize(5);
+        assertThat(byPostAndUser.getContent()).extracting(CommentResponseDto::getContent).containsExactly("댓글2");
+        assertThat(otherPost.getContent()).isEmpty();
+        assertThat(QueryCountInspector.getCount()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,212 @@
+package com.sparta.wildcard_newsfeed.domain.comment.service;
+
+import com.sparta.wildcard_newsfeed.config.JpaAuditing;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentCursorPageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentRequestDto;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentThreadPageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.entity.Comment;
+import com.sparta.wildcard_newsfeed.domain.jpa.QueryCountInspector;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 답글 트리를 경로 범위로 읽고, 최상위 댓글 단위로 페이징하며, 답글 수/댓글 수를 유지하는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditing.class, CommentService.class, CommentPathBackfill.class})
+class CommentThreadTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CommentPathBackfill commentPathBackfill;
+
+    private User writer;
+    private Post post;
+    private AuthenticationUser user;
+    private long a;
+    private long a1;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(commentService, "threadReplySize", 3);
+        ReflectionTestUtils.setField(commentPathBackfill, "chunkSize", 1000);
+        ReflectionTestUtils.setField(commentPathBackfill, "pauseMs", 0L);
+        writer = new User("writerId", "currentPWD999!", "writer@gmail.com");
+        em.persist(writer);
+        post = new Post(new PostRequestDto("제목", "내용", null), writer);
+        em.persist(post);
+        // 답글 기능 이전에 작성된 댓글 (경로 없음)
+        em.persist(new Comment("legacy", writer, post));
+        em.flush();
+        commentPathBackfill.backfill();
+        user = AuthenticationUser.of(writer);
+
+        a = commentService.addComment(post.getId(), request("A"), user).getId();
+        long b = commentService.addComment(post.getId(), request("B"), user).getId();
+        a1 = commentService.addReply(post.getId(), a, request("A1"), user).getId();
+        commentService.addReply(post.getId(), a1, request("A1a"), user);
+        commentService.addReply(post.getId(), b, request("B1"), user);
+        commentService.addComment(post.getId(), request("C"), user);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void threadsPagedByTopLevel() {
+        // when
+        QueryCountInspector.reset();
+        CommentThreadPageResponseDto first = commentService.getCommentThreads(post.getId(), null, 2);
+        long queryCount = QueryCountInspector.getCount();
+        CommentThreadPageResponseDto second = commentService.getCommentThreads(post.getId(), first.getNextCursor(), 2);
+
+        // then - 최상위 댓글 경로 조회 + 스레드별로 자른 ID 조회 + 댓글 조회
+        assertThat(queryCount).isEqualTo(3);
+        assertThat(first.getContent()).extracting(CommentResponseDto::getContent)
+                .containsExactly("legacy", "A", "A1", "A1a");
+        assertThat(first.getContent()).extracting(CommentResponseDto::getDepth)
+                .containsExactly(0, 0, 1, 2);
+        assertThat(first.getThreadCount()).isEqualTo(2);
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(first.getReplyCursors()).isEmpty();
+        assertThat(second.getContent()).extracting(CommentResponseDto::getContent)
+                .containsExactly("B", "B1", "C");
+        assertThat(second.isHasNext()).isFalse();
+
+        // 최상위 댓글 목록에는 답글이 없고 답글 수만
+        CommentCursorPageResponseDto topLevel = commentService.getCommentPage(post.getId(), null, 10);
+        assertThat(topLevel.getContent()).extracting(CommentResponseDto::getContent)
+                .containsExactly("legacy", "A", "B", "C");
+        assertThat(topLevel.getContent()).extracting(CommentResponseDto::getReplyCount)
+                .containsExactly(0L, 1L, 1L, 0L);
+    }
+
+    @Test
+    void threadRepliesCapped() {
+        // given - A 스레드의 답글은 A1, A1a, A2, A3 (트리 순서)
+        commentService.addReply(post.getId(), a, request("A2"), user);
+        commentService.addReply(post.getId(), a, request("A3"), user);
+        em.flush();
+        em.clear();
+        ReflectionTestUtils.setField(commentService, "threadReplySize", 2);
+
+        // when
+        CommentThreadPageResponseDto page = commentService.getCommentThreads(post.getId(), null, 3);
+
+        // then - 스레드마다 답글은 2 개까지, 잘린 스레드는 나머지 답글을 이어서 조회할 커서
+        assertThat(page.getContent()).extracting(CommentResponseDto::getContent)
+                .containsExactly("legacy", "A", "A1", "A1a", "B", "B1");
+        assertThat(page.getReplyCursors()).containsOnlyKeys(a);
+
+        CommentCursorPageResponseDto rest = commentService.getReplies(post.getId(), a, page.getReplyCursors().get(a), 10);
+        assertThat(rest.getContent()).extracting(CommentResponseDto::getContent).containsExactly("A2", "A3");
+        assertThat(rest.isHasNext()).isFalse();
+    }
+
+    @Test
+    void replies() {
+        CommentCursorPageResponseDto first = commentService.getReplies(post.getId(), a, null, 1);
+        CommentCursorPageResponseDto second = commentService.getReplies(post.getId(), a, first.getNextCursor(), 1);
+
+        assertThat(first.getContent()).extracting(CommentResponseDto::getContent).containsExactly("A1");
+        assertThat(first.getContent().get(0).getParentId()).isEqualTo(a);
+        assertThat(second.getContent()).extracting(CommentResponseDto::getContent).containsExactly("A1a");
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    @Test
+    void deleteSubtree() {
+        // when - A 를 지우면 A1, A1a 까지 삭제
+        commentService.deleteComment(post.getId(), a, user.getUsername());
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(commentService.getCommentThreads(post.getId(), null, 10).getContent())
+                .extracting(CommentResponseDto::getContent)
+                .containsExactly("legacy", "B", "B1", "C");
+        assertThat(jdbcTemplate.queryForObject("select comment_count from post where id = ?", Long.class, post.getId()))
+                .isEqualTo(3);
+    }
+
+    @Test
+    void deleteReply() {
+        commentService.deleteComment(post.getId(), a1, user.getUsername());
+        em.flush();
+        em.clear();
+
+        assertThat(em.find(Comment.class, a).getReplyCount()).isZero();
+    }
+
+    @Test
+    void deleteLegacyParentWithReply() {
+        // given - 경로가 없는 기존 댓글에 답글
+        Comment legacy = new Comment("legacy2", em.find(User.class, writer.getId()), em.find(Post.class, post.getId()));
+        em.persist(legacy);
+        em.flush();
+        long reply = commentService.addReply(post.getId(), legacy.getId(), request("legacy2-1"), user).getId();
+        em.flush();
+        em.clear();
+        long before = commentCount();
+
+        // when
+        commentService.deleteComment(post.getId(), legacy.getId(), user.getUsername());
+        em.flush();
+        em.clear();
+
+        // then - 답글까지 삭제되고 댓글 수도 두 건 감소
+        assertThat(em.find(Comment.class, legacy.getId())).isNull();
+        assertThat(em.find(Comment.class, reply)).isNull();
+        assertThat(commentCount()).isEqualTo(before - 2);
+    }
+
+    @Test
+    void backfillByIdRange() {
+        // given - 경로가 없는 기존 댓글 5 건, 구간 크기 3
+        for (int i = 0; i < 5; i++) {
+            em.persist(new Comment("legacy-" + i, em.find(User.class, writer.getId()), em.find(Post.class, post.getId())));
+        }
+        em.flush();
+        ReflectionTestUtils.setField(commentPathBackfill, "chunkSize", 3);
+
+        // when
+        long updated = commentPathBackfill.backfill();
+
+        // then - 여러 구간에 걸친 댓글이 모두 채워지고, 다시 돌려도 바뀌는 행이 없음
+        assertThat(updated).isEqualTo(5);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from comment where path is null", Long.class)).isZero();
+        assertThat(commentPathBackfill.backfill()).isZero();
+    }
+
+    private long commentCount() {
+        return jdbcTemplate.queryForObject("select comment_count from post where id = ?", Long.class, post.getId());
+    }
+
+    private CommentRequestDto request(String content) {
+        return new CommentRequestDto(content);
+    }
+}
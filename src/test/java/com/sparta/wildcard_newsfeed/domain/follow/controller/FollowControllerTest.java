@@ -0,0 +1,119 @@
+package com.sparta.wildcard_newsfeed.domain.follow.controller;
+
+import com.sparta.wildcard_newsfeed.config.WebSecurityConfig;
+import com.sparta.wildcard_newsfeed.domain.follow.dto.FollowResponseDto;
+import com.sparta.wildcard_newsfeed.domain.follow.entity.Follow;
+import com.sparta.wildcard_newsfeed.domain.follow.service.FollowService;
+import com.sparta.wildcard_newsfeed.domain.mvc.MockSpringSecurityFilter;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import com.sparta.wildcard_newsfeed.domain.user.entity.UserRoleEnum;
+import com.sparta.wildcard_newsfeed.domain.user.entity.UserStatusEnum;
+import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+
+@WebMvcTest(
+        controllers = {FollowController.class},
+        excludeFilters = {
+                @ComponentScan.Filter(
+                        type = FilterType.ASSIGNABLE_TYPE,
+                        classes = WebSecurityConfig.class
+                )
+        }
+)
+@TestPropertySource(properties = {"server.port=8080"})
+class FollowControllerTest {
+
+    private MockMvc mvc;
+    private Principal principal;
+    private User user;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @MockBean
+    FollowService followService;
+
+    @BeforeEach
+    public void setUp() {
+        mvc = MockMvcBuilders.webAppContextSetup(context)
+                .apply(springSecurity(new MockSpringSecurityFilter()))
+                .build();
+
+        user = User.builder()
+                .usercode("testId1234")
+                .password("currentPWD999!")
+                .name("홍길동")
+                .email("test@gmail.com")
+                .introduce("Hello World")
+                .userStatus(UserStatusEnum.UNAUTHORIZED)
+                .authUserAt(LocalDateTime.now())
+                .userRoleEnum(UserRoleEnum.USER)
+                .build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        AuthenticationUser userDetails = AuthenticationUser.of(user);
+        principal = new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+    }
+
+    @Test
+    public void follow() throws Exception {
+        // given
+        long followingId = 2L;
+        User following = new User("testId5678", "currentPWD999!", "test2@gmail.com");
+        ReflectionTestUtils.setField(following, "id", followingId);
+        FollowResponseDto responseDto = new FollowResponseDto(new Follow(user, following));
+
+        // when
+        when(followService.follow(eq(followingId), any(AuthenticationUser.class))).thenReturn(responseDto);
+
+        // then
+        mvc.perform(post("/api/v1/follow/{userId}", followingId)
+                        .principal(principal))
+                .andDo(print())
+                .andExpect(jsonPath("$.statusCode").value(200))
+                .andExpect(jsonPath("$.message").value("팔로우 성공"))
+                .andExpect(jsonPath("$.data.followerId").value(1L))
+                .andExpect(jsonPath("$.data.followingId").value(followingId));
+
+        verify(followService).follow(eq(followingId), any(AuthenticationUser.class));
+    }
+
+    @Test
+    public void unfollow() throws Exception {
+        // given
+        long followingId = 2L;
+
+        // when
+        doNothing().when(followService).unfollow(anyLong(), any(AuthenticationUser.class));
+
+        // then
+        mvc.perform(delete("/api/v1/follow/{userId}", followingId)
+                        .principal(principal))
+                .andDo(print())
+                .andExpect(jsonPath("$.statusCode").value(200))
+                .andExpect(jsonPath("$.message").value("언팔로우 성공"));
+
+        verify(followService).unfollow(eq(followingId), any(AuthenticationUser.class));
+    }
+}
@@ -0,0 +1,35 @@
+package com.sparta.wildcard_newsfeed.domain.jpa;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hibernate 가 실행하는 SQL 문 개수를 세는 테스트용 StatementInspector
+ * application-h2.yml 에서 등록
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public String inspect(String sql) {
+        count.incrementAndGet();
+        return sql;
+    }
+
+    public static void reset() {
+        count.set(0);
+    }
+
+    public static int getCount() {
+        return count.get();
+    }
+
+    // action 이 실행한 SQL 문 개수
+    public static int count(Runnable action) {
+        reset();
+        action.run();
+        return getCount();
+    }
+}
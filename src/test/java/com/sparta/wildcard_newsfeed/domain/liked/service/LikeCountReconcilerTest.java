@@ -0,0 +1,131 @@
+package com.sparta.wildcard_newsfeed.domain.liked.service;
+
+import com.sparta.wildcard_newsfeed.config.JpaAuditing;
+import com.sparta.wildcard_newsfeed.domain.comment.entity.Comment;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.Liked;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostCountReconciledEvent;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import com.sparta.wildcard_newsfeed.util.ChunkedReconciler.ReconcileResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * chunk 경계와 상관없이 어긋난 좋아요 수만 liked 기준으로 바로잡는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditing.class, LikeCountReconciler.class, SimpleMeterRegistry.class})
+@RecordApplicationEvents
+class LikeCountReconcilerTest {
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private LikeCountReconciler likeCountReconciler;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final List<Post> posts = new ArrayList<>();
+    private Comment comment;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(likeCountReconciler, "chunkSize", 3);
+        ReflectionTestUtils.setField(likeCountReconciler, "pauseMs", 0L);
+
+        User writer = new User("writerId", "currentPWD999!", "writer@gmail.com");
+        em.persist(writer);
+        List<User> likers = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            User liker = new User("liker" + i, "currentPWD999!", "liker" + i + "@gmail.com");
+            em.persist(liker);
+            likers.add(liker);
+        }
+        // 게시물 i 에는 i % 4 개의 좋아요
+        for (int i = 0; i < 7; i++) {
+            Post post = new Post(new PostRequestDto("제목" + i, "내용" + i, null), writer);
+            em.persist(post);
+            for (int j = 0; j < i % 4; j++) {
+                em.persist(new Liked(likers.get(j).getId(), post.getId(), ContentsTypeEnum.POST));
+            }
+            post.setLikeCount((long) (i % 4));
+            posts.add(post);
+        }
+        comment = new Comment("댓글", writer, posts.get(0));
+        em.persist(comment);
+        em.persist(new Liked(likers.get(0).getId(), comment.getId(), ContentsTypeEnum.COMMENT));
+        em.flush();
+        jdbcTemplate.update("update comment set like_count = 1 where id = ?", comment.getId());
+    }
+
+    @Test
+    void nothingToFix() {
+        ReconcileResult result = likeCountReconciler.reconcile();
+
+        assertThat(result.scanned()).isEqualTo(8);
+        assertThat(result.fixed()).isZero();
+        assertThat(events.stream(PostCountReconciledEvent.class)).isEmpty();
+    }
+
+    @Test
+    void fixDrift() {
+        // given - 두 번째 chunk 의 게시물과 댓글의 좋아요 수가 어긋남
+        jdbcTemplate.update("update post set like_count = 10 where id = ?", posts.get(4).getId());
+        jdbcTemplate.update("update post set like_count = 0 where id = ?", posts.get(6).getId());
+        jdbcTemplate.update("update comment set like_count = 5 where id = ?", comment.getId());
+
+        // when
+        ReconcileResult result = likeCountReconciler.reconcile();
+
+        // then
+        assertThat(result.fixed()).isEqualTo(3);
+        assertThat(likeCount("post", posts.get(4).getId())).isEqualTo(0);
+        assertThat(likeCount("post", posts.get(6).getId())).isEqualTo(2);
+        assertThat(likeCount("comment", comment.getId())).isEqualTo(1);
+        assertThat(meterRegistry.counter("like.reconcile.fixed").count()).isEqualTo(3);
+
+        // 캐시 제거/ETag 갱신용 이벤트 - 댓글 좋아요는 댓글이 달린 게시물 기준, 그 게시물의 댓글 버전도 증가
+        assertThat(events.stream(PostCountReconciledEvent.class))
+                .extracting(PostCountReconciledEvent::getCounter, PostCountReconciledEvent::getPostIds)
+                .containsExactly(
+                        tuple(PostCountReconciledEvent.Counter.POST_LIKE, Set.of(posts.get(4).getId(), posts.get(6).getId())),
+                        tuple(PostCountReconciledEvent.Counter.COMMENT_LIKE, Set.of(posts.get(0).getId())));
+        assertThat(jdbcTemplate.queryForObject("select comment_version from post where id = ?", Long.class,
+                posts.get(0).getId())).isEqualTo(1);
+    }
+
+    private long likeCount(String table, Long id) {
+        return jdbcTemplate.queryForObject("select like_count from " + table + " where id = ?", Long.class, id);
+    }
+}
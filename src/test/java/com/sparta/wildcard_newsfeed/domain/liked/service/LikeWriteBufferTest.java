@@ -0,0 +1,181 @@
+package com.sparta.wildcard_newsfeed.domain.liked.service;
+
+import com.sparta.wildcard_newsfeed.config.JpaAuditing;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.Liked;
+import com.sparta.wildcard_newsfeed.domain.liked.service.LikeWriteBuffer.LikeKey;
+import com.sparta.wildcard_newsfeed.domain.liked.service.LikeWriteBuffer.OfferResult;
+import com.sparta.wildcard_newsfeed.domain.liked.service.LikeWriteBuffer.PendingLike;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditing.class, LikeWriteBuffer.class, LikerBitmapIndex.class, SimpleMeterRegistry.class})
+@TestPropertySource(properties = "newsfeed.like.write-behind.enabled=true")
+class LikeWriteBufferTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private LikeWriteBuffer likeWriteBuffer;
+
+    @Autowired
+    private LikerBitmapIndex likerBitmapIndex;
+
+    private User liker;
+    private User otherLiker;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        // 컨텍스트를 다른 테스트와 공유하므로 이전 테스트가 남긴 대기 요청을 비움
+        ((Map<?, ?>) ReflectionTestUtils.getField(likeWriteBuffer, "pending")).clear();
+        User writer = new User("writerId", "currentPWD999!", "writer@gmail.com");
+        liker = new User("likerId", "currentPWD999!", "liker@gmail.com");
+        otherLiker = new User("otherId", "currentPWD999!", "other@gmail.com");
+        em.persist(writer);
+        em.persist(liker);
+        em.persist(otherLiker);
+        post = new Post(new PostRequestDto("제목", "내용", null), writer);
+        em.persist(post);
+        em.flush();
+    }
+
+    @Test
+    void coalesceToggles() {
+        // given - 같은 사용자의 좋아요/취소/좋아요는 마지막 상태만 남음
+        LikeKey key = new LikeKey(liker.getId(), post.getId(), ContentsTypeEnum.POST);
+        assertThat(likeWriteBuffer.offer(key, new PendingLike(true, post.getId()))).isEqualTo(OfferResult.ACCEPTED);
+        assertThat(likeWriteBuffer.offer(key, new PendingLike(false, post.getId()))).isEqualTo(OfferResult.ACCEPTED);
+        assertThat(likeWriteBuffer.offer(key, new PendingLike(true, post.getId()))).isEqualTo(OfferResult.ACCEPTED);
+
+        // when
+        int flushed = likeWriteBuffer.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(1);
+        assertThat(likedCount()).isEqualTo(1);
+        assertThat(postLikeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectDuplicateLikeAndMissingUnlike() {
+        // given - liker 는 이미 좋아요 상태
+        em.persist(new Liked(liker.getId(), post.getId(), ContentsTypeEnum.POST));
+        jdbcTemplate.update("update post set like_count = 1 where id = ?", post.getId());
+        em.flush();
+
+        // when - 중복 좋아요, 없는 좋아요 취소는 대기열에 넣지 않음
+        OfferResult duplicate = likeWriteBuffer.offer(new LikeKey(liker.getId(), post.getId(), ContentsTypeEnum.POST), new PendingLike(true, post.getId()));
+        OfferResult missing = likeWriteBuffer.offer(new LikeKey(otherLiker.getId(), post.getId(), ContentsTypeEnum.POST), new PendingLike(false, post.getId()));
+        int flushed = likeWriteBuffer.flush();
+
+        // then
+        assertThat(duplicate).isEqualTo(OfferResult.UNCHANGED);
+        assertThat(missing).isEqualTo(OfferResult.NOT_LIKED);
+        assertThat(flushed).isZero();
+        assertThat(likedCount()).isEqualTo(1);
+        assertThat(postLikeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void checkPendingStateBeforeDb() {
+        LikeKey key = new LikeKey(otherLiker.getId(), post.getId(), ContentsTypeEnum.POST);
+
+        // 대기 중인 좋아요가 있으면 DB 에 없어도 취소 가능, 대기 중인 취소 뒤의 취소는 거부
+        assertThat(likeWriteBuffer.offer(key, new PendingLike(true, post.getId()))).isEqualTo(OfferResult.ACCEPTED);
+        assertThat(likeWriteBuffer.offer(key, new PendingLike(true, post.getId()))).isEqualTo(OfferResult.UNCHANGED);
+        assertThat(likeWriteBuffer.offer(key, new PendingLike(false, post.getId()))).isEqualTo(OfferResult.ACCEPTED);
+        assertThat(likeWriteBuffer.offer(key, new PendingLike(false, post.getId()))).isEqualTo(OfferResult.NOT_LIKED);
+    }
+
+    @Test
+    void checkBitmapInsteadOfDb() {
+        // given - 첫 요청에서 비트맵을 불러온 뒤 DB 에서만 좋아요 삭제
+        em.persist(new Liked(liker.getId(), post.getId(), ContentsTypeEnum.POST));
+        em.flush();
+        LikeKey key = new LikeKey(liker.getId(), post.getId(), ContentsTypeEnum.POST);
+        assertThat(likeWriteBuffer.offer(key, new PendingLike(true, post.getId()))).isEqualTo(OfferResult.UNCHANGED);
+        jdbcTemplate.update("delete from liked where contents_id = ?", post.getId());
+
+        // when - 이후 요청은 DB 를 다시 읽지 않고 비트맵으로 판단
+        OfferResult result = likeWriteBuffer.offer(key, new PendingLike(true, post.getId()));
+
+        // then
+        assertThat(result).isEqualTo(OfferResult.UNCHANGED);
+    }
+
+    @Test
+    void applyOnlyChangedState() {
+        // given - 대기열에 넣은 뒤 반영 전에 DB 상태가 바뀜 (다른 인스턴스의 동기 반영 등)
+        assertThat(likeWriteBuffer.offer(new LikeKey(liker.getId(), post.getId(), ContentsTypeEnum.POST),
+                new PendingLike(true, post.getId()))).isEqualTo(OfferResult.ACCEPTED);
+        em.persist(new Liked(liker.getId(), post.getId(), ContentsTypeEnum.POST));
+        jdbcTemplate.update("update post set like_count = 1 where id = ?", post.getId());
+        em.flush();
+
+        // when
+        likeWriteBuffer.flush();
+
+        // then - 이미 반영된 좋아요는 다시 반영하지 않음
+        assertThat(likedCount()).isEqualTo(1);
+        assertThat(postLikeCount()).isEqualTo(1);
+    }
+
+    @Test
+    void rejectAfterShutdown() {
+        LikeWriteBuffer buffer = new LikeWriteBuffer(jdbcTemplate, transactionTemplate, eventPublisher, new SimpleMeterRegistry(), likerBitmapIndex);
+        ReflectionTestUtils.setField(buffer, "enabled", true);
+        ReflectionTestUtils.setField(buffer, "maxPending", 10);
+        ReflectionTestUtils.setField(buffer, "batchSize", 10);
+        LikeKey key = new LikeKey(liker.getId(), post.getId(), ContentsTypeEnum.POST);
+        assertThat(buffer.offer(key, new PendingLike(true, post.getId()))).isEqualTo(OfferResult.ACCEPTED);
+
+        // when - 종료 시 남은 요청 반영 후에는 대기열에 넣지 않고 호출한 쪽이 바로 반영
+        buffer.shutdown();
+
+        // then
+        assertThat(likedCount()).isEqualTo(1);
+        assertThat(buffer.offer(new LikeKey(otherLiker.getId(), post.getId(), ContentsTypeEnum.POST),
+                new PendingLike(true, post.getId()))).isEqualTo(OfferResult.REJECTED);
+    }
+
+    private long likedCount() {
+        return jdbcTemplate.queryForObject("select count(*) from liked where contents_id = ?", Long.class, post.getId());
+    }
+
+    private long postLikeCount() {
+        return jdbcTemplate.queryForObject("select like_count from post where id = ?", Long.class, post.getId());
+    }
+}
@@ -0,0 +1,256 @@
+package com.sparta.wildcard_newsfeed.domain.liked.service;
+
+import com.sparta.wildcard_newsfeed.config.JpaAuditing;
+import com.sparta.wildcard_newsfeed.domain.jpa.QueryCountInspector;
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikeTargetDto;
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikedRequestDto;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import com.sparta.wildcard_newsfeed.domain.liked.repository.LikedRepository;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.post.repository.PostRepository;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
+import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요/취소 시 사용자, 대상 엔티티 전체를 읽던 방식(이전)과 ID 프로젝션 방식(현재)의 조회 크기/지연시간 비교
+ * - 두 방식 모두 DB 에서 실제로 읽은 값과 실제 실행 시간으로 비교
+ * - 기본 test 태스크에서는 제외, ./gradlew benchmark 로 실행
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditing.class, LikedService.class, LikeWriteBuffer.class, LikerBitmapIndex.class, SimpleMeterRegistry.class})
+class LikedHotPathBenchmarkTest {
+
+    private static final int POST_COUNT = 200;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 10_000;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private LikedService likedService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private LikedRepository likedRepository;
+
+    private User liker;
+    private final List<Post> posts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User writer = new User("writerId", "currentPWD999!", "writer@gmail.com");
+        em.persist(writer);
+        // 실제 사용자 행과 비슷하게 bcrypt 해시, 리프레시 토큰, 소개, 프로필 이미지를 채움
+        liker = new User("likerId", "$2a$10$" + "a".repeat(53), "liker@gmail.com");
+        liker.setRefreshToken("Bearer " + "t".repeat(240));
+        liker.setProfileImageUrl("https://bucket.s3.ap-northeast-2.amazonaws.com/profile/" + "p".repeat(36) + ".png");
+        ReflectionTestUtils.setField(liker, "introduce", "소개글".repeat(50));
+        em.persist(liker);
+        for (int i = 0; i < POST_COUNT; i++) {
+            Post post = new Post(new PostRequestDto("제목" + i, "내용".repeat(200), null), writer);
+            em.persist(post);
+            posts.add(post);
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void lookupRowSize() {
+        Long postId = posts.get(0).getId();
+        // 이전 방식 - 엔티티가 매핑한 모든 컬럼을 DB 에서 읽은 크기
+        long entityBytes = entityRowBytes(User.class, "usercode", "likerId")
+                + entityRowBytes(Post.class, "id", postId);
+        // 현재 방식 - 실제 프로젝션 쿼리 결과의 크기
+        Long userId = userRepository.findIdByUsercode("likerId").orElseThrow();
+        LikeTargetDto likeTarget = postRepository.findLikeTargetById(postId).orElseThrow();
+        long projectionBytes = bytesOf(userId) + bytesOf(likeTarget.postId(), likeTarget.writerId());
+
+        log.info("like lookup payload - entity: {} bytes, projection: {} bytes ({}x smaller)",
+                entityBytes, projectionBytes, entityBytes / projectionBytes);
+        assertThat(projectionBytes).isLessThan(entityBytes);
+    }
+
+    @Test
+    void lookupLatency() {
+        // 이전 방식 - 사용자, 게시물 엔티티 전체 조회 후 작성자 비교
+        LongSupplier entityLookup = () -> {
+            long sum = 0;
+            for (Post target : posts) {
+                User user = userRepository.findByUsercode("likerId").orElseThrow();
+                Post post = postRepository.findById(target.getId()).orElseThrow();
+                sum += user.getId() + post.getUser().getId();
+                em.clear();
+            }
+            return sum;
+        };
+        // 현재 방식 - ID 만 조회
+        LongSupplier projectionLookup = () -> {
+            long sum = 0;
+            for (Post target : posts) {
+                Long userId = userRepository.findIdByUsercode("likerId").orElseThrow();
+                LikeTargetDto likeTarget = postRepository.findLikeTargetById(target.getId()).orElseThrow();
+                sum += userId + likeTarget.writerId();
+                em.clear();
+            }
+            return sum;
+        };
+
+        double entityMicros = measure(entityLookup);
+        double projectionMicros = measure(projectionLookup);
+
+        log.info("like lookup latency - entity: {} us/op, projection: {} us/op",
+                String.format("%.2f", entityMicros), String.format("%.2f", projectionMicros));
+    }
+
+    @Test
+    void likeUnlikeLatency() {
+        AuthenticationUser user = AuthenticationUser.of(em.find(User.class, liker.getId()));
+        em.clear();
+
+        // 이전 방식 - 사용자, 게시물 엔티티 조회 후 같은 insert ignore / delete 와 좋아요 수 갱신
+        LongSupplier entityLikeUnlike = () -> {
+            for (Post post : posts) {
+                legacyAddLike(post.getId());
+                legacyRemoveLike(post.getId());
+            }
+            em.clear();
+            return posts.size() * 2L;
+        };
+        // 현재 방식 - LikedService
+        LongSupplier projectionLikeUnlike = () -> {
+            for (Post post : posts) {
+                LikedRequestDto requestDto = postLikeRequest(post);
+                likedService.addLike(requestDto, user);
+                likedService.removeLike(requestDto, user);
+            }
+            em.clear();
+            return posts.size() * 2L;
+        };
+
+        double[] entity = measureOperations(entityLikeUnlike);
+        double[] projection = measureOperations(projectionLikeUnlike);
+
+        log.info("like/unlike - entity: {} us/op, {} queries/op / projection: {} us/op, {} queries/op",
+                String.format("%.2f", entity[0]), String.format("%.1f", entity[1]),
+                String.format("%.2f", projection[0]), String.format("%.1f", projection[1]));
+    }
+
+    private void legacyAddLike(Long postId) {
+        User user = userRepository.findByUsercode("likerId").orElseThrow();
+        Post post = postRepository.findById(postId).orElseThrow();
+        if (post.getUser().getId().equals(user.getId())) {
+            throw new IllegalArgumentException("본인이 작성한 게시물에는 좋아요를 남길 수 없습니다.");
+        }
+        if (likedRepository.insertIgnore(user.getId(), post.getId(), ContentsTypeEnum.POST.name(), LocalDateTime.now()) > 0) {
+            postRepository.updateLikeCount(post.getId(), 1, LocalDateTime.now());
+        }
+    }
+
+    private void legacyRemoveLike(Long postId) {
+        User user = userRepository.findByUsercode("likerId").orElseThrow();
+        Post post = postRepository.findById(postId).orElseThrow();
+        if (likedRepository.deleteByUserIdAndContents(user.getId(), post.getId(), ContentsTypeEnum.POST) > 0) {
+            postRepository.updateLikeCount(post.getId(), -1, LocalDateTime.now());
+        }
+    }
+
+    // { us/op, queries/op } - 워밍업 후 측정
+    private double[] measureOperations(LongSupplier round) {
+        for (int i = 0; i < WARMUP / (POST_COUNT * 2); i++) {
+            round.getAsLong();
+        }
+        int rounds = ITERATIONS / (POST_COUNT * 2);
+        QueryCountInspector.reset();
+        long operations = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            operations += round.getAsLong();
+        }
+        double micros = (System.nanoTime() - start) / 1_000.0 / operations;
+        return new double[]{micros, (double) QueryCountInspector.getCount() / operations};
+    }
+
+    // 엔티티가 매핑한 컬럼(연관관계는 FK 컬럼)을 모두 조회해서 DB 에서 읽은 값의 크기를 더함
+    private long entityRowBytes(Class<?> entityClass, String keyAttribute, Object key) {
+        EntityType<?> entityType = em.getMetamodel().entity(entityClass);
+        String columns = entityType.getSingularAttributes().stream()
+                .map(attribute -> attribute.isAssociation() ? "e." + attribute.getName() + ".id" : "e." + attribute.getName())
+                .collect(Collectors.joining(", "));
+        Object[] row = em.createQuery("select " + columns + " from " + entityType.getName() + " e where e." + keyAttribute + " = :key",
+                        Object[].class)
+                .setParameter("key", key)
+                .getSingleResult();
+        return bytesOf(row);
+    }
+
+    private double measure(LongSupplier lookup) {
+        for (int i = 0; i < WARMUP / POST_COUNT; i++) {
+            lookup.getAsLong();
+        }
+        int rounds = ITERATIONS / POST_COUNT;
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            lookup.getAsLong();
+        }
+        return (System.nanoTime() - start) / 1_000.0 / (rounds * POST_COUNT);
+    }
+
+    private LikedRequestDto postLikeRequest(Post post) {
+        LikedRequestDto requestDto = new LikedRequestDto();
+        ReflectionTestUtils.setField(requestDto, "contentsId", post.getId());
+        ReflectionTestUtils.setField(requestDto, "contentsType", ContentsTypeEnum.POST);
+        return requestDto;
+    }
+
+    // 문자열은 UTF-8 바이트 수, enum 은 저장된 이름, 숫자/시간은 8 바이트
+    private long bytesOf(Object... values) {
+        long bytes = 0;
+        for (Object value : values) {
+            if (value instanceof String string) {
+                bytes += string.getBytes(StandardCharsets.UTF_8).length;
+            } else if (value instanceof Enum<?> constant) {
+                bytes += constant.name().length();
+            } else if (value instanceof byte[] array) {
+                bytes += array.length;
+            } else if (value != null) {
+                bytes += Long.BYTES;
+            }
+        }
+        return bytes;
+    }
+}
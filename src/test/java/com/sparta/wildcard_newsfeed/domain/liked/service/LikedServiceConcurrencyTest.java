@@ -0,0 +1,140 @@
+package com.sparta.wildcard_newsfeed.domain.liked.service;
+
+import com.sparta.wildcard_newsfeed.config.JpaAuditing;
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikedRequestDto;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import com.sparta.wildcard_newsfeed.domain.liked.repository.LikedRepository;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.post.repository.PostRepository;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import com.sparta.wildcard_newsfeed.domain.user.repository.UserRepository;
+import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시에 좋아요를 누르거나 취소해도 좋아요 수가 유실되지 않는지 검증 (각 요청이 별도 트랜잭션으로 커밋)
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditing.class, LikedService.class, LikeWriteBuffer.class, LikerBitmapIndex.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LikedServiceConcurrencyTest {
+
+    private static final int LIKER_COUNT = 1000;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private LikedService likedService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private LikedRepository likedRepository;
+
+    private Post post;
+    private List<User> likers;
+
+    @BeforeEach
+    void setUp() {
+        User writer = userRepository.save(new User("writerId", "currentPWD999!", "writer@gmail.com"));
+        post = postRepository.save(new Post(new PostRequestDto("제목", "내용", null), writer));
+        likers = userRepository.saveAll(IntStream.range(0, LIKER_COUNT)
+                .mapToObj(i -> new User("liker" + i, "currentPWD999!", "liker" + i + "@gmail.com"))
+                .toList());
+    }
+
+    @AfterEach
+    void tearDown() {
+        likedRepository.deleteAllInBatch();
+        postRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void addLikeConcurrently() throws Exception {
+        // when
+        runConcurrently(likers, liker -> likedService.addLike(postLikeRequest(), AuthenticationUser.of(liker)));
+
+        // then
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getLikeCount()).isEqualTo(LIKER_COUNT);
+        assertThat(likedRepository.count()).isEqualTo(LIKER_COUNT);
+    }
+
+    @Test
+    void removeLikeConcurrently() throws Exception {
+        // given
+        runConcurrently(likers, liker -> likedService.addLike(postLikeRequest(), AuthenticationUser.of(liker)));
+
+        // when - 절반은 취소, 나머지 절반은 그대로
+        List<User> cancelers = likers.subList(0, LIKER_COUNT / 2);
+        runConcurrently(cancelers, liker -> likedService.removeLike(postLikeRequest(), AuthenticationUser.of(liker)));
+
+        // then
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getLikeCount()).isEqualTo(LIKER_COUNT / 2);
+        assertThat(likedRepository.count()).isEqualTo(LIKER_COUNT / 2);
+    }
+
+    @Test
+    void addLikeIdempotent() throws Exception {
+        // given - 한 사용자가 같은 게시물에 동시에 여러 번 좋아요 (더블 클릭, 재시도)
+        User liker = likers.get(0);
+        List<User> retries = IntStream.range(0, THREAD_COUNT).mapToObj(i -> liker).toList();
+
+        // when
+        runConcurrently(retries, user -> likedService.addLike(postLikeRequest(), AuthenticationUser.of(user)));
+
+        // then
+        assertThat(postRepository.findById(post.getId()).orElseThrow().getLikeCount()).isEqualTo(1);
+        assertThat(likedRepository.count()).isEqualTo(1);
+    }
+
+    private LikedRequestDto postLikeRequest() {
+        LikedRequestDto requestDto = new LikedRequestDto();
+        ReflectionTestUtils.setField(requestDto, "contentsId", post.getId());
+        ReflectionTestUtils.setField(requestDto, "contentsType", ContentsTypeEnum.POST);
+        return requestDto;
+    }
+
+    private void runConcurrently(List<User> users, Consumer<User> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (User user : users) {
+                futures.add(executor.submit(() -> task.accept(user)));
+            }
+            // 하나라도 실패하면 예외가 그대로 전파되어 테스트 실패
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.sparta.wildcard_newsfeed.domain.liked.service;
+
+import com.sparta.wildcard_newsfeed.config.JpaAuditing;
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikedChangedEvent;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.Liked;
+import com.sparta.wildcard_newsfeed.domain.liked.service.LikerBitmapIndex.ContentsKey;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditing.class, LikerBitmapIndex.class})
+class LikerBitmapIndexTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private LikerBitmapIndex likerBitmapIndex;
+
+    private User writer;
+    private final List<User> likers = new ArrayList<>();
+    private ContentsKey key;
+
+    @BeforeEach
+    void setUp() {
+        writer = new User("writerId", "currentPWD999!", "writer@gmail.com");
+        em.persist(writer);
+        Post post = new Post(new PostRequestDto("제목", "내용", null), writer);
+        em.persist(post);
+        for (int i = 0; i < 5; i++) {
+            User liker = new User("liker" + i, "currentPWD999!", "liker" + i + "@gmail.com");
+            em.persist(liker);
+            em.persist(new Liked(liker.getId(), post.getId(), ContentsTypeEnum.POST));
+            likers.add(liker);
+        }
+        post.setLikeCount((long) likers.size());
+        post.setLikeVersion((long) likers.size());
+        em.flush();
+        key = new ContentsKey(post.getId(), ContentsTypeEnum.POST);
+    }
+
+    @Test
+    void pageLikers() {
+        // when
+        List<Long> firstPage = likerBitmapIndex.findLikerIds(key, -1, 3);
+        List<Long> secondPage = likerBitmapIndex.findLikerIds(key, firstPage.get(2), 3);
+
+        // then
+        assertThat(likerBitmapIndex.count(key)).isEqualTo(5);
+        assertThat(firstPage).containsExactly(likers.get(0).getId(), likers.get(1).getId(), likers.get(2).getId());
+        assertThat(secondPage).containsExactly(likers.get(3).getId(), likers.get(4).getId());
+    }
+
+    @Test
+    void intersectAndApplyChanges() {
+        // given
+        likerBitmapIndex.count(key);
+        likerBitmapIndex.onLikedChanged(LikedChangedEvent.of(likers.get(0).getId(), key.contentsId(), ContentsTypeEnum.POST,
+                key.contentsId(), false, 6L));
+
+        // when
+        List<Long> following = List.of(likers.get(0).getId(), likers.get(1).getId(), 999L);
+
+        // then
+        assertThat(likerBitmapIndex.count(key)).isEqualTo(4);
+        assertThat(likerBitmapIndex.intersect(key, following).toArray()).containsExactly(likers.get(1).getId().intValue());
+    }
+
+    @Test
+    void skippedVersionReloads() {
+        // given - 버전 6 변경을 놓치고 7 이 먼저 도착
+        likerBitmapIndex.count(key);
+        jdbcTemplate.update("delete from liked where contents_id = ? and user_id = ?", key.contentsId(), likers.get(0).getId());
+        jdbcTemplate.update("delete from liked where contents_id = ? and user_id = ?", key.contentsId(), likers.get(1).getId());
+        jdbcTemplate.update("update post set like_version = 7 where id = ?", key.contentsId());
+
+        // when
+        likerBitmapIndex.onLikedChanged(LikedChangedEvent.of(likers.get(1).getId(), key.contentsId(), ContentsTypeEnum.POST,
+                key.contentsId(), false, 7L));
+
+        // then - 버리고 liked 테이블에서 다시 생성
+        assertThat(likerBitmapIndex.count(key)).isEqualTo(3);
+    }
+
+    @Test
+    void loadFromSnapshot() {
+        // given - 스냅샷 저장 후 liked 테이블을 비워도 좋아요 버전이 같으면 스냅샷을 사용
+        likerBitmapIndex.count(key);
+        likerBitmapIndex.snapshot();
+        jdbcTemplate.update("delete from liked where contents_id = ?", key.contentsId());
+
+        LikerBitmapIndex restarted = restart(100L);
+
+        // when, then
+        assertThat(restarted.count(key)).isEqualTo(5);
+        assertThat(restarted.findLikerIds(key, -1, 10)).hasSize(5);
+    }
+
+    @Test
+    void staleSnapshotWithSameCardinalityRebuilt() {
+        // given - 스냅샷 저장 후 한 명 취소, 다른 한 명 좋아요 (좋아요 수는 그대로, 버전은 +2)
+        likerBitmapIndex.count(key);
+        likerBitmapIndex.snapshot();
+        jdbcTemplate.update("delete from liked where contents_id = ? and user_id = ?", key.contentsId(), likers.get(0).getId());
+        em.persist(new Liked(writer.getId(), key.contentsId(), ContentsTypeEnum.POST));
+        em.flush();
+        jdbcTemplate.update("update post set like_version = like_version + 2 where id = ?", key.contentsId());
+
+        LikerBitmapIndex restarted = restart(100L);
+
+        // when, then
+        assertThat(restarted.count(key)).isEqualTo(5);
+        assertThat(restarted.findLikerIds(key, -1, 10))
+                .contains(writer.getId())
+                .doesNotContain(likers.get(0).getId());
+    }
+
+    @Test
+    void evictedAndShutdownBitmapsSaved() {
+        // given - 한 개만 유지, 캐시 작업을 호출 스레드에서 실행
+        Post other = new Post(new PostRequestDto("제목2", "내용2", null), writer);
+        em.persist(other);
+        em.flush();
+        ContentsKey otherKey = new ContentsKey(other.getId(), ContentsTypeEnum.POST);
+        LikerBitmapIndex index = restart(1L);
+
+        // when - 다시 생성한(변경된) 비트맵이 밀려남
+        index.count(key);
+        index.count(otherKey);
+
+        // then - 어느 쪽이 밀려날지는 캐시 정책에 따르므로 저장된 개수만 확인
+        assertThat(snapshotCount()).isEqualTo(1);
+
+        // when - 종료 시 남은 변경 저장
+        index.shutdown();
+
+        // then
+        assertThat(snapshotCount()).isEqualTo(2);
+        assertThat(snapshotVersion(key)).isEqualTo(5);
+        assertThat(snapshotVersion(otherKey)).isZero();
+    }
+
+    private LikerBitmapIndex restart(long maxSize) {
+        LikerBitmapIndex restarted = new LikerBitmapIndex(jdbcTemplate, transactionManager);
+        ReflectionTestUtils.setField(restarted, "maxSize", maxSize);
+        ReflectionTestUtils.setField(restarted, "executor", (Executor) Runnable::run);
+        restarted.init();
+        return restarted;
+    }
+
+    private Integer snapshotCount() {
+        return jdbcTemplate.queryForObject("select count(*) from liker_bitmap_snapshot", Integer.class);
+    }
+
+    private Long snapshotVersion(ContentsKey contentsKey) {
+        return jdbcTemplate.queryForObject("select like_version from liker_bitmap_snapshot where contents_id = ? and content_type = ?",
+                Long.class, contentsKey.contentsId(), contentsKey.contentsType().name());
+    }
+}
@@ -3,15 +3,21 @@ package com.sparta.wildcard_newsfeed.domain.post.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.wildcard_newsfeed.config.WebSecurityConfig;
 import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.PostWithCommentsResponseDto;
 import com.sparta.wildcard_newsfeed.domain.comment.entity.Comment;
-import com.sparta.wildcard_newsfeed.domain.comment.service.CommentService;
 import com.sparta.wildcard_newsfeed.domain.file.service.FileService;
 import com.sparta.wildcard_newsfeed.domain.mvc.MockSpringSecurityFilter;
 import com.sparta.wildcard_newsfeed.domain.post.dto.*;
 import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
 import com.sparta.wildcard_newsfeed.domain.post.repository.PostMediaRepository;
 import com.sparta.wildcard_newsfeed.domain.post.repository.PostRepository;
+import com.sparta.wildcard_newsfeed.domain.post.service.PostDetailService;
+import com.sparta.wildcard_newsfeed.domain.post.service.PostETagService;
+import com.sparta.wildcard_newsfeed.domain.post.service.PostLikedByMeService;
 import com.sparta.wildcard_newsfeed.domain.post.service.PostService;
+import com.sparta.wildcard_newsfeed.domain.post.service.PostTopCommentsService;
+import com.sparta.wildcard_newsfeed.domain.post.service.PostViewCounter;
+import com.sparta.wildcard_newsfeed.domain.post.service.TrendingService;
 import com.sparta.wildcard_newsfeed.domain.user.entity.User;
 import com.sparta.wildcard_newsfeed.domain.user.entity.UserRoleEnum;
 import com.sparta.wildcard_newsfeed.domain.user.entity.UserStatusEnum;
@@ -35,6 +41,7 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -44,7 +51,9 @@ import java.security.Principal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
@@ -78,15 +87,49 @@ class PostControllerTest {
     PostService postService;
 
     @MockBean
-    CommentService commentService;
+    PostDetailService postDetailService;
+
+    @MockBean
+    PostETagService postETagService;
+
+    @MockBean
+    PostLikedByMeService postLikedByMeService;
+
+    @MockBean
+    TrendingService trendingService;
+
+    @MockBean
+    PostViewCounter postViewCounter;
+
+    @MockBean
+    PostTopCommentsService postTopCommentsService;
 
     private User user;
 
+    private static final String LIST_ETAG = "\"list-etag\"";
+    private static final String DETAIL_ETAG = "\"detail-etag\"";
+    private static final String PAGE_ETAG = "\"page-etag\"";
+
     @BeforeEach
     public void setUp() {
         mvc = MockMvcBuilders.webAppContextSetup(context)
                 .apply(springSecurity(new MockSpringSecurityFilter()))
                 .build();
+
+        when(postETagService.getPostListETag()).thenReturn(LIST_ETAG);
+        when(postETagService.getPostDetailETag(anyLong(), any())).thenReturn(DETAIL_ETAG);
+        when(postETagService.getPostPageETag(any(PostPageRequestDto.class), any())).thenReturn(PAGE_ETAG);
+
+        // 비로그인 요청이므로 좋아요 여부 표시 없이 그대로 반환
+        when(postLikedByMeService.markDetail(any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(postViewCounter.markDetail(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(postLikedByMeService.markPage(any(Page.class), any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(postLikedByMeService.markPage(any(PostCursorPageResponseDto.class), any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(postLikedByMeService.markPage(any(PostSlicePageResponseDto.class), any())).thenAnswer(invocation -> invocation.getArgument(0));
+        // 댓글 미리보기를 요청하지 않으므로 그대로 반환
+        when(postTopCommentsService.markPage(any(Page.class), anyInt())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(postTopCommentsService.markPage(any(PostCursorPageResponseDto.class), anyInt())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(postTopCommentsService.markPage(any(PostSlicePageResponseDto.class), anyInt())).thenAnswer(invocation -> invocation.getArgument(0));
     }
 
     private void mockUserSetUp() {
@@ -169,6 +212,37 @@ class PostControllerTest {
         verify(postService).findAll();
     }
 
+    @Test
+    public void streamAll() throws Exception {
+        // given
+        User user = new User("testId1234", "currentPWD999!", "test@gamil.com");
+        PostResponseDto post1 = new PostResponseDto(new Post(new PostRequestDto("title1", "content1", null), user));
+        PostResponseDto post2 = new PostResponseDto(new Post(new PostRequestDto("title2", "content2", null), user));
+
+        // when
+        doAnswer(invocation -> {
+            Consumer<PostResponseDto> consumer = invocation.getArgument(0);
+            consumer.accept(post1);
+            consumer.accept(post2);
+            return null;
+        }).when(postService).streamAll(any());
+
+        // then
+        MvcResult mvcResult = mvc.perform(get("/api/v1/post/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("title").asText()).isEqualTo("title1");
+        assertThat(objectMapper.readTree(lines[1]).get("title").asText()).isEqualTo("title2");
+    }
+
     @Test
     public void findById() throws Exception {
         // given
@@ -183,8 +257,8 @@ class PostControllerTest {
         List<CommentResponseDto> commentResponseDtoList = List.of(new CommentResponseDto(comment1), new CommentResponseDto(comment2));
 
         // when
-        when(postService.findById(postId)).thenReturn(postResponseDto);
-        when(commentService.findAllCommentsByPostId(postId)).thenReturn(commentResponseDtoList);
+        when(postDetailService.getPostDetail(postId))
+                .thenReturn(new PostWithCommentsResponseDto(postResponseDto, commentResponseDtoList, true));
 
         // then
         mvc.perform(get("/api/v1/post/{postId}", postId))
@@ -195,9 +269,28 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.data.post.title").value(postResponseDto.getTitle()))
                 .andExpect(jsonPath("$.data.post.content").value(postResponseDto.getContent()))
                 .andExpect(jsonPath("$.data.comments[0].content").value(commentResponseDtoList.get(0).getContent()))
-                .andExpect(jsonPath("$.data.comments[1].content").value(commentResponseDtoList.get(1).getContent()));
+                .andExpect(jsonPath("$.data.comments[1].content").value(commentResponseDtoList.get(1).getContent()))
+                .andExpect(jsonPath("$.data.hasMoreComments").value(true))
+                .andExpect(header().string("ETag", DETAIL_ETAG));
+
+        verify(postDetailService).getPostDetail(postId);
+    }
+
+    @Test
+    public void findByIdNotModified() throws Exception {
+        // given
+        long postId = 1L;
+
+        // then - ETag 가 같으면 본문 없이 304, 상세 조회는 하지 않음
+        mvc.perform(get("/api/v1/post/{postId}", postId)
+                        .header("If-None-Match", DETAIL_ETAG))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", DETAIL_ETAG))
+                .andExpect(content().string(""));
 
-        verify(postService).findById(postId);
+        verify(postDetailService, never()).getPostDetail(anyLong());
+        verify(postViewCounter).recordView(eq(postId), anyString());
     }
 
     @Test
@@ -279,7 +372,7 @@ class PostControllerTest {
         ReflectionTestUtils.setField(requestDto, "lastDate", lastDate);
         log.info("출력: {}", requestDto);
 
-        PostPageResponseImpl responseDto = new PostPageResponseImpl(1L, 10L, "제목", "내용", "홍길동", LocalDateTime.now(), LocalDateTime.now(), 5L);
+        PostPageResponseImpl responseDto = new PostPageResponseImpl(1L, 10L, "제목", "내용", "홍길동", LocalDateTime.now(), LocalDateTime.now(), 5L, 2L);
 
         List<PostPageResponseDto> content = Arrays.asList(responseDto, responseDto);
         Page<PostPageResponseDto> pageResponse = new PageImpl<>(content, PageRequest.of(page - 1, size), content.size());
@@ -300,8 +393,91 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.data.content[0].userId").value(10L))
                 .andExpect(jsonPath("$.data.content[0].title").value("제목"))
                 .andExpect(jsonPath("$.data.content[0].content").value("내용"))
-                .andExpect(jsonPath("$.data.content[0].name").value("홍길동"));
+                .andExpect(jsonPath("$.data.content[0].name").value("홍길동"))
+                .andExpect(jsonPath("$.data.content[0].commentCount").value(2L));
 
         verify(postService).getPostPage(any(PostPageRequestDto.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void pagingByCursor() throws Exception {
+        // given
+        PostPageRequestDto requestDto = new PostPageRequestDto();
+        ReflectionTestUtils.setField(requestDto, "page", 1);
+        ReflectionTestUtils.setField(requestDto, "size", 2);
+        ReflectionTestUtils.setField(requestDto, "sortBy", "CREATE");
+        ReflectionTestUtils.setField(requestDto, "pagingType", PostPagingTypeEnum.CURSOR);
+
+        PostPageResponseImpl responseDto = new PostPageResponseImpl(1L, 10L, "제목", "내용", "홍길동", LocalDateTime.now(), LocalDateTime.now(), 5L, 2L);
+        PostCursorPageResponseDto cursorPage = new PostCursorPageResponseDto(List.of(responseDto, responseDto), 2, true, "nextCursor");
+
+        // when
+        when(postService.getPostCursorPage(any(PostPageRequestDto.class))).thenReturn(cursorPage);
+
+        // then
+        mvc.perform(post("/api/v1/post/page")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(requestDto))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("게시물 페이지 조회 성공"))
+                .andExpect(jsonPath("$.data.content[0].postId").value(1L))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").value("nextCursor"));
+
+        verify(postService).getPostCursorPage(any(PostPageRequestDto.class));
+        verify(postService, never()).getPostPage(any(PostPageRequestDto.class));
+    }
+
+    @Test
+    public void pagingBySlice() throws Exception {
+        // given
+        PostPageRequestDto requestDto = new PostPageRequestDto();
+        ReflectionTestUtils.setField(requestDto, "page", 1);
+        ReflectionTestUtils.setField(requestDto, "size", 2);
+        ReflectionTestUtils.setField(requestDto, "sortBy", "LIKED");
+        ReflectionTestUtils.setField(requestDto, "pagingType", PostPagingTypeEnum.SLICE);
+
+        PostPageResponseImpl responseDto = new PostPageResponseImpl(1L, 10L, "제목", "내용", "홍길동", LocalDateTime.now(), LocalDateTime.now(), 5L, 2L);
+        PostSlicePageResponseDto slicePage = new PostSlicePageResponseDto(List.of(responseDto, responseDto), 1, 2, false, null);
+
+        // when
+        when(postService.getPostSlicePage(any(PostPageRequestDto.class))).thenReturn(slicePage);
+
+        // then
+        mvc.perform(post("/api/v1/post/page")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(requestDto))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[1].postId").value(1L))
+                .andExpect(jsonPath("$.data.hasNext").value(false))
+                .andExpect(jsonPath("$.data.approximateTotalCount").doesNotExist());
+
+        verify(postService).getPostSlicePage(any(PostPageRequestDto.class));
+        verify(postService, never()).getPostPage(any(PostPageRequestDto.class));
+    }
+
+    @Test
+    public void pagingNotModified() throws Exception {
+        // given
+        PostPageRequestDto requestDto = new PostPageRequestDto();
+        ReflectionTestUtils.setField(requestDto, "page", 1);
+        ReflectionTestUtils.setField(requestDto, "size", 2);
+        ReflectionTestUtils.setField(requestDto, "sortBy", "CREATE");
+
+        // then
+        mvc.perform(post("/api/v1/post/page")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsBytes(requestDto))
+                        .header("If-None-Match", "\"other-etag\", " + PAGE_ETAG)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", PAGE_ETAG));
+
+        verify(postService, never()).getPostPage(any(PostPageRequestDto.class));
+    }
+}
@@ -0,0 +1,121 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.sparta.wildcard_newsfeed.config.JpaAuditing;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentRequestDto;
+import com.sparta.wildcard_newsfeed.domain.comment.entity.Comment;
+import com.sparta.wildcard_newsfeed.domain.comment.service.CommentService;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostCountReconciledEvent;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import com.sparta.wildcard_newsfeed.util.ChunkedReconciler.ReconcileResult;
+import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 추가/삭제 시 댓글 수가 상대값으로 갱신되고, 기존 행은 chunk 단위 backfill 로 채워지는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditing.class, PostCommentCountReconciler.class, CommentService.class, SimpleMeterRegistry.class})
+@RecordApplicationEvents
+class PostCommentCountReconcilerTest {
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PostCommentCountReconciler reconciler;
+
+    @Autowired
+    private CommentService commentService;
+
+    private User writer;
+    private final List<Post> posts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reconciler, "chunkSize", 2);
+        ReflectionTestUtils.setField(reconciler, "pauseMs", 0L);
+
+        writer = new User("writerId", "currentPWD999!", "writer@gmail.com");
+        em.persist(writer);
+        // 게시물 i 에는 댓글 i 개 (comment_count 는 0 인 채로 - 컬럼 추가 직후 상태)
+        for (int i = 0; i < 5; i++) {
+            Post post = new Post(new PostRequestDto("제목" + i, "내용" + i, null), writer);
+            em.persist(post);
+            for (int j = 0; j < i; j++) {
+                em.persist(new Comment("댓글" + j, writer, post));
+            }
+            posts.add(post);
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void backfill() {
+        // when
+        ReconcileResult result = reconciler.reconcile();
+
+        // then - 댓글이 없는 첫 게시물만 그대로
+        assertThat(result.scanned()).isEqualTo(5);
+        assertThat(result.fixed()).isEqualTo(4);
+        for (int i = 0; i < posts.size(); i++) {
+            assertThat(commentCount(posts.get(i))).isEqualTo(i);
+        }
+        assertThat(reconciler.reconcile().fixed()).isZero();
+
+        // chunk(2) 마다 바로잡은 게시물로 이벤트 발행
+        assertThat(events.stream(PostCountReconciledEvent.class)
+                .flatMap(event -> event.getPostIds().stream()))
+                .containsExactly(posts.get(1).getId(), posts.get(2).getId(), posts.get(3).getId(), posts.get(4).getId());
+    }
+
+    @Test
+    void addAndDeleteComment() {
+        // given
+        reconciler.reconcile();
+        AuthenticationUser user = AuthenticationUser.of(writer);
+        Post post = posts.get(2);
+
+        // when
+        CommentRequestDto requestDto = new CommentRequestDto();
+        ReflectionTestUtils.setField(requestDto, "content", "새 댓글");
+        long commentId = commentService.addComment(post.getId(), requestDto, user).getId();
+        commentService.addComment(post.getId(), requestDto, user);
+        commentService.deleteComment(post.getId(), commentId, user.getUsername());
+
+        // then
+        assertThat(commentCount(post)).isEqualTo(3);
+        assertThat(reconciler.reconcile().fixed()).isZero();
+    }
+
+    private long commentCount(Post post) {
+        return jdbcTemplate.queryForObject("select comment_count from post where id = ?", Long.class, post.getId());
+    }
+}
@@ -0,0 +1,78 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.sparta.wildcard_newsfeed.config.JpaAuditing;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.PostWithCommentsResponseDto;
+import com.sparta.wildcard_newsfeed.domain.comment.entity.Comment;
+import com.sparta.wildcard_newsfeed.domain.jpa.QueryCountInspector;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.post.entity.PostMedia;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시물 상세 조회가 댓글 수와 관계없이 고정된 쿼리 수(게시물, 미디어, 댓글)로 끝나는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditing.class, PostDetailService.class})
+@TestPropertySource(properties = "newsfeed.post.detail-comment-size=3")
+class PostDetailServiceQueryCountTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PostDetailService postDetailService;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        User writer = new User("writerId", "currentPWD999!", "writer@gmail.com");
+        em.persist(writer);
+        post = new Post(new PostRequestDto("제목", "내용", null), writer);
+        em.persist(post);
+
+        PostMedia postMedia = new PostMedia();
+        postMedia.setPost(post);
+        postMedia.setUrl("https://bucket/image.png");
+        postMedia.setType("png");
+        em.persist(postMedia);
+
+        for (int i = 0; i < 5; i++) {
+            User user = new User("testId" + i, "currentPWD999!", "test" + i + "@gmail.com");
+            em.persist(user);
+            em.persist(new Comment("댓글" + i, user, post));
+        }
+        em.flush();
+        em.clear();
+        QueryCountInspector.reset();
+    }
+
+    @Test
+    void getPostDetail() {
+        // when
+        PostWithCommentsResponseDto detail = postDetailService.getPostDetail(post.getId());
+
+        // then
+        assertThat(detail.getPost().getUsername()).isNotNull();
+        assertThat(detail.getPost().getS3Urls()).containsExactly("https://bucket/image.png");
+        assertThat(detail.getComments()).hasSize(3);
+        assertThat(detail.getComments()).extracting(CommentResponseDto::getUsername).doesNotContainNull();
+        assertThat(detail.isHasMoreComments()).isTrue();
+        assertThat(QueryCountInspector.getCount()).isEqualTo(3);
+    }
+}
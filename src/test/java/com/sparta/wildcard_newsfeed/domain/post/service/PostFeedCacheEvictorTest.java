@@ -0,0 +1,156 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.wildcard_newsfeed.config.CacheConfig;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentCreatedEvent;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentDeletedEvent;
+import com.sparta.wildcard_newsfeed.domain.liked.dto.LikedChangedEvent;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import com.sparta.wildcard_newsfeed.domain.post.dto.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class PostFeedCacheEvictorTest {
+
+    private Cache cache;
+    private TaskScheduler taskScheduler;
+    private PostFeedCacheEvictor evictor;
+
+    private PostFeedCacheKey createKey;
+    private PostFeedCacheKey likedKey;
+
+    @BeforeEach
+    void setUp() {
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(new CaffeineCache(CacheConfig.POST_FEED_CACHE, Caffeine.newBuilder().build())));
+        cacheManager.initializeCaches();
+        cache = cacheManager.getCache(CacheConfig.POST_FEED_CACHE);
+        taskScheduler = mock(TaskScheduler.class);
+        evictor = new PostFeedCacheEvictor(cacheManager, taskScheduler);
+
+        createKey = PostFeedCacheKey.of(request("CREATE"));
+        likedKey = PostFeedCacheKey.of(request("LIKED"));
+        cache.put(createKey, new PageImpl<PostPageResponseDto>(List.of(post(1L), post(2L))));
+        cache.put(likedKey, new PageImpl<PostPageResponseDto>(List.of(post(3L))));
+    }
+
+    @Test
+    void updateEvictsOnlyPagesContainingPost() {
+        // when
+        evictor.onPostUpdated(PostUpdatedEvent.of(3L));
+
+        // then
+        assertThat(cache.get(createKey)).isNotNull();
+        assertThat(cache.get(likedKey)).isNull();
+    }
+
+    @Test
+    void likeEvictsLikedSortAndPagesContainingPost() {
+        // when
+        evictor.onLikedChanged(LikedChangedEvent.of(10L, 2L, ContentsTypeEnum.POST, 2L, true));
+
+        // then
+        assertThat(cache.get(createKey)).isNull();
+        assertThat(cache.get(likedKey)).isNull();
+    }
+
+    @Test
+    void commentLikeKeepsPostPages() {
+        // when
+        evictor.onLikedChanged(LikedChangedEvent.of(10L, 1L, ContentsTypeEnum.COMMENT, 2L, true));
+
+        // then
+        assertThat(cache.get(createKey)).isNotNull();
+        assertThat(cache.get(likedKey)).isNotNull();
+    }
+
+    @Test
+    void commentEvictsPagesContainingPost() {
+        // when
+        long version = evictor.getVersion();
+        evictor.onCommentCreated(CommentCreatedEvent.of(1L, 100L));
+
+        // then - 댓글 수가 바뀐 게시물이 있는 페이지만 제거하고 목록 버전 증가
+        assertThat(cache.get(createKey)).isNull();
+        assertThat(cache.get(likedKey)).isNotNull();
+        assertThat(evictor.getVersion()).isGreaterThan(version);
+
+        evictor.onCommentDeleted(CommentDeletedEvent.of(3L, 101L));
+        assertThat(cache.get(likedKey)).isNull();
+    }
+
+    @Test
+    void reconciledCountsEvictPages() {
+        // 댓글 좋아요 보정은 목록과 무관
+        evictor.onCountReconciled(PostCountReconciledEvent.of(PostCountReconciledEvent.Counter.COMMENT_LIKE, Set.of(1L)));
+        assertThat(cache.get(createKey)).isNotNull();
+
+        // 댓글 수 보정은 해당 게시물이 있는 페이지만
+        evictor.onCountReconciled(PostCountReconciledEvent.of(PostCountReconciledEvent.Counter.COMMENT_COUNT, Set.of(3L)));
+        assertThat(cache.get(createKey)).isNotNull();
+        assertThat(cache.get(likedKey)).isNull();
+
+        // 좋아요 수 보정은 좋아요 순 페이지 + 해당 게시물이 있는 페이지
+        evictor.onCountReconciled(PostCountReconciledEvent.of(PostCountReconciledEvent.Counter.POST_LIKE, Set.of(2L)));
+        assertThat(cache.get(createKey)).isNull();
+    }
+
+    @Test
+    void createEvictsAll() {
+        // when
+        evictor.onPostCreated(PostCreatedEvent.of(4L, 10L, LocalDateTime.now()));
+
+        // then
+        assertThat(cache.get(createKey)).isNull();
+        assertThat(cache.get(likedKey)).isNull();
+    }
+
+    @Test
+    void staleRepopulationEvictedAgain() {
+        // given - 커밋 후 제거
+        evictor.onPostUpdated(PostUpdatedEvent.of(3L));
+        ArgumentCaptor<Runnable> reEvict = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(reEvict.capture(), any(Instant.class));
+
+        // 커밋 전에 시작된 조회가 변경 전 페이지를 다시 넣음 (이 사이에 발급된 ETag 는 이전 페이지에 붙음)
+        cache.put(likedKey, new PageImpl<PostPageResponseDto>(List.of(post(3L))));
+        long versionAfterFirstEvict = evictor.getVersion();
+
+        // when
+        reEvict.getValue().run();
+
+        // then - 다시 제거되고 목록 버전도 바뀜
+        assertThat(cache.get(likedKey)).isNull();
+        assertThat(cache.get(createKey)).isNotNull();
+        assertThat(evictor.getVersion()).isGreaterThan(versionAfterFirstEvict);
+    }
+
+    private PostPageRequestDto request(String sortBy) {
+        PostPageRequestDto requestDto = new PostPageRequestDto();
+        ReflectionTestUtils.setField(requestDto, "page", 1);
+        ReflectionTestUtils.setField(requestDto, "size", 10);
+        ReflectionTestUtils.setField(requestDto, "sortBy", sortBy);
+        return requestDto;
+    }
+
+    private PostPageResponseDto post(Long postId) {
+        return new PostPageResponseImpl(postId, 10L, "제목", "내용", "홍길동", LocalDateTime.now(), LocalDateTime.now(), 0L, 0L);
+    }
+}
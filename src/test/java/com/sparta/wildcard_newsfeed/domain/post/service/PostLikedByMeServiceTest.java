@@ -0,0 +1,97 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.sparta.wildcard_newsfeed.config.JpaAuditing;
+import com.sparta.wildcard_newsfeed.domain.jpa.QueryCountInspector;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.ContentsTypeEnum;
+import com.sparta.wildcard_newsfeed.domain.liked.entity.Liked;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageResponseImpl;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 페이지 크기와 관계없이 좋아요 여부를 한 번의 IN 조회로 채우는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditing.class, PostLikedByMeService.class})
+class PostLikedByMeServiceTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PostLikedByMeService postLikedByMeService;
+
+    private User viewer;
+    private final List<Post> posts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User writer = new User("writerId", "currentPWD999!", "writer@gmail.com");
+        viewer = new User("viewerId", "currentPWD999!", "viewer@gmail.com");
+        em.persist(writer);
+        em.persist(viewer);
+        for (int i = 0; i < 10; i++) {
+            Post post = new Post(new PostRequestDto("제목" + i, "내용" + i, null), writer);
+            em.persist(post);
+            posts.add(post);
+            // 짝수 번째 게시물만 좋아요
+            if (i % 2 == 0) {
+                em.persist(new Liked(viewer.getId(), post.getId(), ContentsTypeEnum.POST));
+            }
+        }
+        em.flush();
+        em.clear();
+        QueryCountInspector.reset();
+    }
+
+    @Test
+    void markPage() {
+        // given
+        Page<PostPageResponseDto> page = new PageImpl<>(posts.stream()
+                .map(post -> (PostPageResponseDto) new PostPageResponseImpl(post.getId(), 1L, post.getTitle(), post.getContent(),
+                        "writerId", post.getCreatedAt(), post.getUpdatedAt(), 0L, 0L))
+                .toList());
+
+        // when
+        Page<PostPageResponseDto> marked = postLikedByMeService.markPage(page, AuthenticationUser.of(viewer));
+
+        // then
+        assertThat(marked.getContent())
+                .extracting(post -> ((PostPageResponseImpl) post).getLikedByMe())
+                .containsExactly(true, false, true, false, true, false, true, false, true, false);
+        assertThat(QueryCountInspector.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void markPageAnonymous() {
+        // given
+        Page<PostPageResponseDto> page = new PageImpl<>(List.of());
+
+        // when
+        Page<PostPageResponseDto> marked = postLikedByMeService.markPage(page, null);
+
+        // then - 비로그인 사용자는 조회하지 않음
+        assertThat(marked).isSameAs(page);
+        assertThat(QueryCountInspector.getCount()).isZero();
+    }
+}
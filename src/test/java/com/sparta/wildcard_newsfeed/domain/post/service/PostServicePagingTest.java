@@ -0,0 +1,281 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.wildcard_newsfeed.config.CacheConfig;
+import com.sparta.wildcard_newsfeed.config.JpaAuditing;
+import com.sparta.wildcard_newsfeed.domain.file.service.FileService;
+import com.sparta.wildcard_newsfeed.domain.jpa.QueryCountInspector;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostCursorPageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostSlicePageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import com.sparta.wildcard_newsfeed.util.CursorUtils;
+import com.sparta.wildcard_newsfeed.util.FileUtils;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 정렬 값이 같은 게시물이 페이지 경계에 걸려도 빠지거나 중복되지 않는지, 잘못된 커서를 거부하는지,
+ * SLICE 방식의 다음 페이지 여부가 경계에서 맞는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditing.class, PostService.class, PostCountCache.class, PostServicePagingTest.PostCountCacheConfig.class})
+class PostServicePagingTest {
+
+    // CacheConfig 를 가져오면 @EnableCaching 으로 페이지 캐시까지 켜지므로 게시물 수 캐시만 등록
+    @TestConfiguration
+    static class PostCountCacheConfig {
+        @Bean
+        CacheManager cacheManager() {
+            SimpleCacheManager cacheManager = new SimpleCacheManager();
+            cacheManager.setCaches(List.of(new CaffeineCache(CacheConfig.POST_COUNT_CACHE, Caffeine.newBuilder().build())));
+            return cacheManager;
+        }
+    }
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.now().minusDays(1).truncatedTo(ChronoUnit.SECONDS);
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private FileService fileService;
+
+    @MockBean
+    private FileUtils fileUtils;
+
+    private final List<Post> posts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        posts.clear();
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(postService), "streamChunkSize", 500);
+        // 컨텍스트를 다른 테스트와 공유하므로 캐시된 게시물 수를 비움
+        cacheManager.getCache(CacheConfig.POST_COUNT_CACHE).clear();
+        User writer = new User("writerId", "currentPWD999!", "writer@gmail.com");
+        em.persist(writer);
+        for (int i = 0; i < 7; i++) {
+            Post post = new Post(new PostRequestDto("제목" + i, "내용" + i, null), writer);
+            em.persist(post);
+            posts.add(post);
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void cursorPageWithCreatedAtTies() {
+        // given - 앞의 4개, 뒤의 3개가 각각 같은 작성일시 (페이지 크기 3 이라 경계에 동점이 걸림)
+        for (int i = 0; i < posts.size(); i++) {
+            setCreatedAt(posts.get(i), i < 4 ? CREATED_AT : CREATED_AT.plusHours(1));
+        }
+
+        // when
+        List<Long> pagedIds = readAllCursorPages("CREATE", 3);
+
+        // then - 작성일시 최신순, 같으면 ID 큰 순으로 모두 한 번씩
+        assertThat(pagedIds).containsExactly(
+                posts.get(6).getId(), posts.get(5).getId(), posts.get(4).getId(),
+                posts.get(3).getId(), posts.get(2).getId(), posts.get(1).getId(), posts.get(0).getId());
+    }
+
+    @Test
+    void cursorPageWithLikeCountTies() {
+        // given - 좋아요 수 2, 2, 2, 1, 1, 0, 0
+        long[] likeCounts = {2, 2, 2, 1, 1, 0, 0};
+        for (int i = 0; i < posts.size(); i++) {
+            jdbcTemplate.update("update post set like_count = ? where id = ?", likeCounts[i], posts.get(i).getId());
+        }
+
+        // when
+        List<Long> pagedIds = readAllCursorPages("LIKED", 2);
+
+        // then - 좋아요 많은 순, 같으면 ID 큰 순으로 모두 한 번씩
+        assertThat(pagedIds).containsExactly(
+                posts.get(2).getId(), posts.get(1).getId(), posts.get(0).getId(),
+                posts.get(4).getId(), posts.get(3).getId(),
+                posts.get(6).getId(), posts.get(5).getId());
+    }
+
+    @Test
+    void cursorPageLastPageBoundary() {
+        // when - 게시물 7개를 7개씩
+        PostCursorPageResponseDto page = postService.getPostCursorPage(cursorRequest("CREATE", 7, null));
+
+        // then - 딱 맞게 끝나면 다음 페이지 없음
+        assertThat(page.getContent()).hasSize(7);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void invalidCursor() {
+        // Base64 가 아니거나 값 개수가 다른 커서
+        assertThatThrownBy(() -> postService.getPostCursorPage(cursorRequest("CREATE", 3, "invalid!")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+        assertThatThrownBy(() -> postService.getPostCursorPage(cursorRequest("CREATE", 3, CursorUtils.encode("CREATE", 1))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+        // 값 형식이 맞지 않는 커서
+        assertThatThrownBy(() -> postService.getPostCursorPage(cursorRequest("CREATE", 3, CursorUtils.encode("CREATE", "yesterday", 1))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+        assertThatThrownBy(() -> postService.getPostCursorPage(cursorRequest("LIKED", 3, CursorUtils.encode("LIKED", 1, "id"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 커서입니다.");
+        // 다른 정렬 기준으로 발급된 커서
+        String likedCursor = postService.getPostCursorPage(cursorRequest("LIKED", 3, null)).getNextCursor();
+        assertThatThrownBy(() -> postService.getPostCursorPage(cursorRequest("CREATE", 3, likedCursor)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("정렬 기준과 커서가 일치하지 않습니다.");
+    }
+
+    @Test
+    void slicePageWithTies() {
+        // given - 작성일시, 좋아요 수가 모두 같음
+        for (Post post : posts) {
+            setCreatedAt(post, CREATED_AT);
+        }
+
+        // when
+        List<Long> createdIds = readAllSlicePages("CREATE", 3);
+        List<Long> likedIds = readAllSlicePages("LIKED", 3);
+
+        // then - ID 큰 순으로 모두 한 번씩
+        List<Long> expected = posts.stream().map(Post::getId).sorted(Comparator.reverseOrder()).toList();
+        assertThat(createdIds).containsExactlyElementsOf(expected);
+        assertThat(likedIds).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void slicePageHasNextBoundary() {
+        // 7개 중 6개 - 다음 페이지 있음
+        assertThat(postService.getPostSlicePage(sliceRequest("CREATE", 1, 6)).isHasNext()).isTrue();
+        // 7개 중 7개 - 딱 맞게 끝나면 다음 페이지 없음
+        PostSlicePageResponseDto exact = postService.getPostSlicePage(sliceRequest("CREATE", 1, 7));
+        assertThat(exact.getContent()).hasSize(7);
+        assertThat(exact.isHasNext()).isFalse();
+        // 마지막 페이지에 1개
+        PostSlicePageResponseDto last = postService.getPostSlicePage(sliceRequest("CREATE", 3, 3));
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(last.isHasNext()).isFalse();
+        // 범위를 벗어난 페이지
+        assertThatThrownBy(() -> postService.getPostSlicePage(sliceRequest("CREATE", 4, 3)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효한 페이지 번호가 아닙니다.");
+    }
+
+    @Test
+    void slicePageWithTotalCount() {
+        PostPageRequestDto requestDto = sliceRequest("CREATE", 1, 3);
+        ReflectionTestUtils.setField(requestDto, "withTotalCount", true);
+
+        PostSlicePageResponseDto page = postService.getPostSlicePage(requestDto);
+
+        assertThat(page.getApproximateTotalCount()).isEqualTo(7);
+        assertThat(postService.getPostSlicePage(sliceRequest("CREATE", 1, 3)).getApproximateTotalCount()).isNull();
+    }
+
+    @Test
+    void streamAllInChunks() {
+        // given - 청크 크기 3, 작성일시가 모두 같아서 청크 경계에 동점이 걸림
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(postService), "streamChunkSize", 3);
+        for (Post post : posts) {
+            setCreatedAt(post, CREATED_AT);
+        }
+
+        // when
+        List<Long> streamedIds = new ArrayList<>();
+        int queries = QueryCountInspector.count(() ->
+                postService.streamAll(post -> streamedIds.add(post.getId())));
+
+        // then - 최신순으로 빠짐없이, 청크마다 쿼리 하나 (3 + 3 + 1)
+        List<Long> expected = posts.stream().map(Post::getId).sorted(Comparator.reverseOrder()).toList();
+        assertThat(streamedIds).containsExactlyElementsOf(expected);
+        assertThat(queries).isEqualTo(3);
+    }
+
+    private List<Long> readAllSlicePages(String sortBy, int size) {
+        List<Long> ids = new ArrayList<>();
+        PostSlicePageResponseDto page;
+        int pageNumber = 1;
+        do {
+            page = postService.getPostSlicePage(sliceRequest(sortBy, pageNumber++, size));
+            page.getContent().stream().map(PostPageResponseDto::getPostId).forEach(ids::add);
+        } while (page.isHasNext());
+        return ids;
+    }
+
+    private PostPageRequestDto sliceRequest(String sortBy, int page, int size) {
+        PostPageRequestDto requestDto = new PostPageRequestDto();
+        ReflectionTestUtils.setField(requestDto, "page", page);
+        ReflectionTestUtils.setField(requestDto, "size", size);
+        ReflectionTestUtils.setField(requestDto, "sortBy", sortBy);
+        return requestDto;
+    }
+
+    private List<Long> readAllCursorPages(String sortBy, int size) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            PostCursorPageResponseDto page = postService.getPostCursorPage(cursorRequest(sortBy, size, cursor));
+            page.getContent().stream().map(PostPageResponseDto::getPostId).forEach(ids::add);
+            cursor = page.getNextCursor();
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+        } while (cursor != null);
+        return ids;
+    }
+
+    private PostPageRequestDto cursorRequest(String sortBy, int size, String cursor) {
+        PostPageRequestDto requestDto = new PostPageRequestDto();
+        ReflectionTestUtils.setField(requestDto, "page", 1);
+        ReflectionTestUtils.setField(requestDto, "size", size);
+        ReflectionTestUtils.setField(requestDto, "sortBy", sortBy);
+        ReflectionTestUtils.setField(requestDto, "cursor", cursor);
+        return requestDto;
+    }
+
+    private void setCreatedAt(Post post, LocalDateTime createdAt) {
+        jdbcTemplate.update("update post set created_at = ? where id = ?", Timestamp.valueOf(createdAt), post.getId());
+    }
+}
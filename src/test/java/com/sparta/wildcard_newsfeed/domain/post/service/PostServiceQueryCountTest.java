@@ -0,0 +1,132 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.sparta.wildcard_newsfeed.config.JpaAuditing;
+import com.sparta.wildcard_newsfeed.domain.file.service.FileService;
+import com.sparta.wildcard_newsfeed.domain.jpa.QueryCountInspector;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.post.entity.PostMedia;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import com.sparta.wildcard_newsfeed.util.FileUtils;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시물 조회 API 별 SQL 실행 횟수 - 게시물/작성자 수가 늘어나도 같은 쿼리 수로 끝나는지 검증
+ * 조회 API 를 추가하거나 바꾸면 여기에 기대 쿼리 수를 함께 추가
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditing.class, PostService.class})
+class PostServiceQueryCountTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PostService postService;
+
+    @MockBean
+    private PostCountCache postCountCache;
+
+    @MockBean
+    private FileService fileService;
+
+    @MockBean
+    private FileUtils fileUtils;
+
+    private final List<Post> posts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        posts.clear();
+        addPosts(5);
+    }
+
+    @Test
+    void findAll() {
+        assertFixedQueryCount(1, () -> {
+            List<PostResponseDto> result = postService.findAll();
+            assertThat(result).extracting(PostResponseDto::getUsername).doesNotContainNull();
+        });
+    }
+
+    @Test
+    void findById() {
+        // 게시물 + 작성자, 미디어
+        assertFixedQueryCount(2, () -> {
+            PostResponseDto result = postService.findById(posts.get(0).getId());
+            assertThat(result.getUsername()).isNotNull();
+            assertThat(result.getS3Urls()).hasSize(1);
+        });
+    }
+
+    @Test
+    void getPostPage() {
+        // 목록, COUNT
+        assertFixedQueryCount(2, () -> postService.getPostPage(pageRequest("CREATE")));
+    }
+
+    @Test
+    void getPostSlicePage() {
+        assertFixedQueryCount(1, () -> postService.getPostSlicePage(pageRequest("LIKED")));
+    }
+
+    @Test
+    void getPostCursorPage() {
+        assertFixedQueryCount(1, () -> postService.getPostCursorPage(pageRequest("CREATE")));
+        assertFixedQueryCount(1, () -> postService.getPostCursorPage(pageRequest("LIKED")));
+    }
+
+    // 현재 데이터로 한 번, 작성자가 다른 게시물을 더 추가한 뒤 한 번 실행해서 둘 다 expected 인지 확인
+    private void assertFixedQueryCount(int expected, Runnable endpoint) {
+        em.clear();
+        assertThat(QueryCountInspector.count(endpoint)).isEqualTo(expected);
+
+        addPosts(5);
+        em.clear();
+        assertThat(QueryCountInspector.count(endpoint)).isEqualTo(expected);
+    }
+
+    private void addPosts(int count) {
+        for (int i = 0; i < count; i++) {
+            int index = posts.size();
+            User writer = new User("testId" + index, "currentPWD999!", "test" + index + "@gmail.com");
+            em.persist(writer);
+            Post post = new Post(new PostRequestDto("제목" + index, "내용" + index, null), writer);
+            em.persist(post);
+
+            PostMedia postMedia = new PostMedia();
+            postMedia.setPost(post);
+            postMedia.setUrl("https://bucket/image" + index + ".png");
+            postMedia.setType("png");
+            em.persist(postMedia);
+            posts.add(post);
+        }
+        em.flush();
+    }
+
+    private PostPageRequestDto pageRequest(String sortBy) {
+        PostPageRequestDto requestDto = new PostPageRequestDto();
+        ReflectionTestUtils.setField(requestDto, "page", 1);
+        ReflectionTestUtils.setField(requestDto, "size", 3);
+        ReflectionTestUtils.setField(requestDto, "sortBy", sortBy);
+        return requestDto;
+    }
+}
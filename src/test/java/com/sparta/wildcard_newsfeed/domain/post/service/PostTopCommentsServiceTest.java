@@ -0,0 +1,165 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.sparta.wildcard_newsfeed.config.CacheConfig;
+import com.sparta.wildcard_newsfeed.config.JpaAuditing;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.CommentCreatedEvent;
+import com.sparta.wildcard_newsfeed.domain.comment.dto.TopCommentDto;
+import com.sparta.wildcard_newsfeed.domain.comment.entity.Comment;
+import com.sparta.wildcard_newsfeed.domain.jpa.QueryCountInspector;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostCursorPageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageResponseImpl;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 페이지의 게시물 전체 댓글 미리보기를 쿼리 한 번으로 채우고, 게시물별 캐시와 무효화가 동작하는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditing.class, CacheConfig.class, PostTopCommentsService.class})
+class PostTopCommentsServiceTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PostTopCommentsService postTopCommentsService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final List<Post> posts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.TOP_COMMENTS_CACHE).clear();
+        posts.clear();
+        User writer = new User("writerId", "currentPWD999!", "writer@gmail.com");
+        em.persist(writer);
+        // i 번째 게시물에는 좋아요 수가 0 ~ i - 1 인 댓글 i 개
+        for (int i = 0; i < 5; i++) {
+            Post post = new Post(new PostRequestDto("제목" + i, "내용" + i, null), writer);
+            em.persist(post);
+            posts.add(post);
+            for (int j = 0; j < i; j++) {
+                Comment comment = new Comment("댓글" + i + "-" + j, writer, post);
+                comment.setLikeCount((long) j);
+                em.persist(comment);
+            }
+        }
+        // 답글은 좋아요가 많아도 미리보기에 포함하지 않음
+        Comment parent = new Comment("댓글4-root", writer, posts.get(4));
+        em.persist(parent);
+        parent.attachTo(null);
+        Comment reply = new Comment("답글", writer, posts.get(4));
+        reply.setLikeCount(100L);
+        em.persist(reply);
+        reply.attachTo(parent);
+        em.flush();
+        em.clear();
+        QueryCountInspector.reset();
+    }
+
+    @Test
+    void markPage() {
+        // when
+        Page<PostPageResponseDto> marked = postTopCommentsService.markPage(pageOf(posts), 3);
+
+        // then - 게시물 수와 관계없이 쿼리 한 번, 좋아요 많은 순 최대 3개
+        assertThat(QueryCountInspector.getCount()).isEqualTo(1);
+        List<PostPageResponseDto> content = marked.getContent();
+        assertThat(topComments(content.get(0))).isEmpty();
+        assertThat(topComments(content.get(2))).extracting(TopCommentDto::getContent)
+                .containsExactly("댓글2-1", "댓글2-0");
+        assertThat(topComments(content.get(4))).extracting(TopCommentDto::getLikeCount)
+                .containsExactly(3L, 2L, 1L);
+        assertThat(topComments(content.get(4))).extracting(TopCommentDto::getUsername).doesNotContainNull();
+    }
+
+    @Test
+    void cachedPerPost() {
+        // given
+        postTopCommentsService.markPage(pageOf(posts), 3);
+        QueryCountInspector.reset();
+
+        // when - 캐시된 게시물은 조회 없음, 더 적은 개수 요청도 캐시에서 잘라서 사용
+        PostCursorPageResponseDto cursorPage = postTopCommentsService.markPage(
+                new PostCursorPageResponseDto(pageOf(posts).getContent(), posts.size(), false, null), 2);
+
+        // then
+        assertThat(QueryCountInspector.getCount()).isZero();
+        assertThat(topComments(cursorPage.getContent().get(4))).hasSize(2);
+    }
+
+    @Test
+    void evictOnCommentWrite() {
+        // given
+        postTopCommentsService.markPage(pageOf(posts), 3);
+        Post post = posts.get(1);
+        Comment comment = new Comment("새 댓글", em.find(User.class, post.getUser().getId()), em.find(Post.class, post.getId()));
+        comment.setLikeCount(10L);
+        em.persist(comment);
+        em.flush();
+
+        // when - 커밋 후 이벤트로 해당 게시물 캐시만 제거
+        postTopCommentsService.onCommentCreated(CommentCreatedEvent.of(post.getId(), comment.getId()));
+        QueryCountInspector.reset();
+        Page<PostPageResponseDto> marked = postTopCommentsService.markPage(pageOf(posts), 3);
+
+        // then
+        assertThat(QueryCountInspector.getCount()).isEqualTo(1);
+        assertThat(topComments(marked.getContent().get(1))).extracting(TopCommentDto::getContent)
+                .containsExactly("새 댓글", "댓글1-0");
+    }
+
+    @Test
+    void keepLikedByMe() {
+        // given - 좋아요 여부를 먼저 채운 페이지
+        Page<PostPageResponseDto> likedPage = pageOf(posts).map(post -> new PostPageResponseImpl(post, true));
+
+        // when
+        Page<PostPageResponseDto> marked = postTopCommentsService.markPage(likedPage, 1);
+
+        // then
+        assertThat(marked.getContent()).extracting(post -> ((PostPageResponseImpl) post).getLikedByMe())
+                .containsOnly(true);
+    }
+
+    @Test
+    void previewNotRequested() {
+        Page<PostPageResponseDto> page = pageOf(posts);
+
+        assertThat(postTopCommentsService.markPage(page, 0)).isSameAs(page);
+        assertThat(QueryCountInspector.getCount()).isZero();
+    }
+
+    private Page<PostPageResponseDto> pageOf(List<Post> posts) {
+        return new PageImpl<>(posts.stream()
+                .map(post -> (PostPageResponseDto) new PostPageResponseImpl(post.getId(), 1L, post.getTitle(), post.getContent(),
+                        "writerId", post.getCreatedAt(), post.getUpdatedAt(), 0L, 0L))
+                .toList());
+    }
+
+    private List<TopCommentDto> topComments(PostPageResponseDto post) {
+        return ((PostPageResponseImpl) post).getTopComments();
+    }
+}
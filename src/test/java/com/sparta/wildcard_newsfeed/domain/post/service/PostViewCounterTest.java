@@ -0,0 +1,149 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.sparta.wildcard_newsfeed.config.JpaAuditing;
+import com.sparta.wildcard_newsfeed.domain.jpa.QueryCountInspector;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import com.sparta.wildcard_newsfeed.util.HyperLogLog;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조회 시에는 DB 에 쓰지 않고, flush 때 post_stats 에 조회수/고유 조회자 수가 반영되는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditing.class, PostViewCounter.class})
+class PostViewCounterTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PostViewCounter postViewCounter;
+
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        User writer = new User("writerId", "currentPWD999!", "writer@gmail.com");
+        em.persist(writer);
+        post = new Post(new PostRequestDto("제목", "내용", null), writer);
+        em.persist(post);
+        em.flush();
+    }
+
+    @Test
+    void recordWithoutWrite() throws InterruptedException {
+        // 처음 조회할 때 post_stats 를 한 번 읽고, 이후 조회는 메모리에서만 처리
+        postViewCounter.recordView(post.getId(), "viewer0");
+        QueryCountInspector.reset();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 10_000; i++) {
+            String viewer = "viewer" + (i % 100);
+            executor.submit(() -> postViewCounter.recordView(post.getId(), viewer));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(QueryCountInspector.getCount()).isZero();
+        assertThat(postViewCounter.getViewCount(post.getId())).isEqualTo(10_001);
+        assertThat(postViewCounter.getUniqueViewers(post.getId())).isBetween(98L, 102L);
+    }
+
+    @Test
+    void flushToPostStats() {
+        for (int i = 0; i < 3; i++) {
+            postViewCounter.recordView(post.getId(), "viewer" + i);
+            postViewCounter.recordView(post.getId(), "viewer" + i);
+        }
+
+        postViewCounter.flush();
+        postViewCounter.recordView(post.getId(), "viewer3");
+        postViewCounter.flush();
+        // 변경이 없으면 다시 쓰지 않음
+        QueryCountInspector.reset();
+        postViewCounter.flush();
+        assertThat(QueryCountInspector.getCount()).isZero();
+
+        Map<String, Object> stats = jdbcTemplate.queryForMap(
+                "select view_count, unique_viewers from post_stats where post_id = ?", post.getId());
+        assertThat(((Number) stats.get("view_count")).longValue()).isEqualTo(7);
+        assertThat(((Number) stats.get("unique_viewers")).longValue()).isEqualTo(4);
+        assertThat(postViewCounter.getViewCount(post.getId())).isEqualTo(7);
+    }
+
+    @Test
+    void mergeStoredSketchOnFlush() {
+        // given - 메모리에 올라온 뒤 다른 인스턴스가 viewer0 ~ viewer49 를 반영
+        postViewCounter.recordView(post.getId(), "viewer0");
+        HyperLogLog other = new HyperLogLog();
+        for (int i = 0; i < 50; i++) {
+            other.offer("viewer" + i);
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("insert into post_stats (post_id, view_count, unique_viewers, viewer_sketch, created_at, updated_at) " +
+                "values (?, ?, ?, ?, ?, ?)", post.getId(), 50, other.estimate(), other.toByteArray(), now, now);
+        for (int i = 50; i < 100; i++) {
+            postViewCounter.recordView(post.getId(), "viewer" + i);
+        }
+
+        // when
+        postViewCounter.flush();
+
+        // then - 덮어쓰지 않고 합쳐서 약 100 명
+        Map<String, Object> stats = jdbcTemplate.queryForMap(
+                "select view_count, unique_viewers from post_stats where post_id = ?", post.getId());
+        assertThat(((Number) stats.get("view_count")).longValue()).isEqualTo(101);
+        assertThat(((Number) stats.get("unique_viewers")).longValue()).isBetween(98L, 102L);
+    }
+
+    @Test
+    void deletedPostNotFlushed() {
+        // given - 조회 후 flush 전에 게시물 삭제
+        postViewCounter.recordView(post.getId(), "viewer0");
+        jdbcTemplate.update("delete from post where id = ?", post.getId());
+
+        // when
+        postViewCounter.flush();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from post_stats where post_id = ?", Integer.class, post.getId())).isZero();
+    }
+
+    @Test
+    void uniqueViewerEstimate() {
+        // 고유 조회자 10만 명 - precision 12 표준 오차 약 1.6%, 여유 있게 5% 이내
+        int viewers = 100_000;
+        for (int i = 0; i < viewers; i++) {
+            postViewCounter.recordView(post.getId(), "viewer" + i);
+            postViewCounter.recordView(post.getId(), "viewer" + i);
+        }
+
+        assertThat(postViewCounter.getViewCount(post.getId())).isEqualTo(viewers * 2L);
+        assertThat(postViewCounter.getUniqueViewers(post.getId())).isBetween((long) (viewers * 0.95), (long) (viewers * 1.05));
+    }
+}
@@ -0,0 +1,195 @@
+package com.sparta.wildcard_newsfeed.domain.post.service;
+
+import com.sparta.wildcard_newsfeed.config.JpaAuditing;
+import com.sparta.wildcard_newsfeed.domain.jpa.QueryCountInspector;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostCursorPageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostDeletedEvent;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostPageResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 최근 활동일수록 높은 점수를 받는지, 상위 K 개만 유지하는지, 조회 시 SQL 이 없는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditing.class, TrendingService.class})
+class TrendingServiceTest {
+
+    private static final long NOW = 1_000_000L;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TrendingService trendingService;
+
+    private final List<Post> posts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 컨텍스트를 다른 테스트와 공유하므로 이전 테스트의 활동량과 설정을 비움
+        ReflectionTestUtils.setField(trendingService, "topK", 100);
+        ((Map<?, ?>) ReflectionTestUtils.getField(trendingService, "activities")).clear();
+        ((Set<?>) ReflectionTestUtils.getField(trendingService, "deletedPostIds")).clear();
+        User writer = new User("writerId", "currentPWD999!", "writer@gmail.com");
+        em.persist(writer);
+        for (int i = 0; i < 5; i++) {
+            Post post = new Post(new PostRequestDto("제목" + i, "내용" + i, null), writer);
+            em.persist(post);
+            posts.add(post);
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void recentActivityRanksHigher() {
+        // 50분 전 좋아요 5개 (반감기 30분 -> 약 1.6) vs 방금 좋아요 3개
+        for (int i = 0; i < 5; i++) {
+            trendingService.record(posts.get(0).getId(), 1, NOW - 50);
+        }
+        for (int i = 0; i < 3; i++) {
+            trendingService.record(posts.get(1).getId(), 1, NOW);
+        }
+        // 댓글 하나 (가중치 2)
+        trendingService.record(posts.get(2).getId(), 2, NOW - 1);
+
+        trendingService.refresh(NOW);
+
+        assertThat(trendingService.getTopPosts()).extracting(PostPageResponseDto::getPostId)
+                .containsExactly(posts.get(1).getId(), posts.get(2).getId(), posts.get(0).getId());
+    }
+
+    @Test
+    void expiredActivityIsDropped() {
+        trendingService.record(posts.get(0).getId(), 10, NOW - 60);
+        trendingService.record(posts.get(1).getId(), 1, NOW - 59);
+        // 좋아요 후 취소하면 점수 0 이라 제외
+        trendingService.record(posts.get(2).getId(), 1, NOW);
+        trendingService.record(posts.get(2).getId(), -1, NOW);
+
+        trendingService.refresh(NOW);
+
+        assertThat(trendingService.getTopPosts()).extracting(PostPageResponseDto::getPostId)
+                .containsExactly(posts.get(1).getId());
+    }
+
+    @Test
+    void keepsOnlyTopK() {
+        ReflectionTestUtils.setField(trendingService, "topK", 2);
+        for (int i = 0; i < posts.size(); i++) {
+            trendingService.record(posts.get(i).getId(), i + 1, NOW);
+        }
+
+        trendingService.refresh(NOW);
+
+        assertThat(trendingService.getTopPosts()).extracting(PostPageResponseDto::getPostId)
+                .containsExactly(posts.get(4).getId(), posts.get(3).getId());
+    }
+
+    @Test
+    void commentCountChangeBumpsVersion() {
+        trendingService.record(posts.get(0).getId(), 1, NOW);
+        trendingService.refresh(NOW);
+        long version = trendingService.getVersion();
+
+        // 순위와 좋아요 수는 그대로, 댓글 수만 변경
+        jdbcTemplate.update("update post set comment_count = comment_count + 1 where id = ?", posts.get(0).getId());
+        trendingService.refresh(NOW);
+
+        assertThat(trendingService.getVersion()).isGreaterThan(version);
+        assertThat(trendingService.getTopPosts().get(0).getCommentCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void titleChangeBumpsVersion() {
+        trendingService.record(posts.get(0).getId(), 1, NOW);
+        trendingService.refresh(NOW);
+        long version = trendingService.getVersion();
+
+        // 순위와 카운트는 그대로, 제목만 변경
+        jdbcTemplate.update("update post set title = ? where id = ?", "수정된 제목", posts.get(0).getId());
+        trendingService.refresh(NOW);
+
+        assertThat(trendingService.getVersion()).isGreaterThan(version);
+        assertThat(trendingService.getTopPosts().get(0).getTitle()).isEqualTo("수정된 제목");
+    }
+
+    @Test
+    void unchangedRefreshKeepsVersion() {
+        trendingService.record(posts.get(0).getId(), 1, NOW);
+        trendingService.refresh(NOW);
+        long version = trendingService.getVersion();
+
+        trendingService.refresh(NOW);
+
+        assertThat(trendingService.getVersion()).isEqualTo(version);
+    }
+
+    @Test
+    void deletedPostNotRestoredByRefresh() {
+        trendingService.record(posts.get(0).getId(), 1, NOW);
+        trendingService.record(posts.get(1).getId(), 2, NOW);
+        trendingService.refresh(NOW);
+
+        // refresh 가 삭제 커밋 전의 게시물 행을 읽은 상황 - 행은 남아 있고 삭제 이벤트만 먼저 도착
+        trendingService.onPostDeleted(PostDeletedEvent.of(posts.get(1).getId()));
+        trendingService.record(posts.get(1).getId(), 2, NOW);
+        trendingService.refresh(NOW);
+
+        assertThat(trendingService.getTopPosts()).extracting(PostPageResponseDto::getPostId)
+                .containsExactly(posts.get(0).getId());
+    }
+
+    @Test
+    void pagesWithoutQuery() {
+        for (int i = 0; i < posts.size(); i++) {
+            trendingService.record(posts.get(i).getId(), i + 1, NOW);
+        }
+        trendingService.refresh(NOW);
+
+        PostPageRequestDto requestDto = new PostPageRequestDto();
+        ReflectionTestUtils.setField(requestDto, "page", 1);
+        ReflectionTestUtils.setField(requestDto, "size", 2);
+        ReflectionTestUtils.setField(requestDto, "sortBy", TrendingService.SORT_TRENDING);
+
+        QueryCountInspector.reset();
+        Page<PostPageResponseDto> page = trendingService.getTrendingPage(requestDto);
+        PostCursorPageResponseDto first = trendingService.getTrendingCursorPage(requestDto);
+        ReflectionTestUtils.setField(requestDto, "cursor", first.getNextCursor());
+        PostCursorPageResponseDto second = trendingService.getTrendingCursorPage(requestDto);
+
+        assertThat(QueryCountInspector.getCount()).isZero();
+        assertThat(page.getTotalElements()).isEqualTo(5);
+        assertThat(page.getContent()).extracting(PostPageResponseDto::getPostId)
+                .containsExactly(posts.get(4).getId(), posts.get(3).getId());
+        assertThat(second.getContent()).extracting(PostPageResponseDto::getPostId)
+                .containsExactly(posts.get(2).getId(), posts.get(1).getId());
+        assertThat(second.isHasNext()).isTrue();
+    }
+}
@@ -0,0 +1,85 @@
+package com.sparta.wildcard_newsfeed.domain.timeline.service;
+
+import com.sparta.wildcard_newsfeed.domain.follow.repository.FollowRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class CelebrityRegistryTest {
+
+    private final FollowRepository followRepository = mock(FollowRepository.class);
+    private final TimelineBackfillService timelineBackfillService = mock(TimelineBackfillService.class);
+    private CelebrityRegistry celebrityRegistry;
+
+    @BeforeEach
+    void setUp() {
+        celebrityRegistry = new CelebrityRegistry(followRepository, timelineBackfillService);
+    }
+
+    @Test
+    void refresh() {
+        // when
+        when(followRepository.findUserIdsByFollowerCountAtLeast(anyLong())).thenReturn(List.of(1L, 2L));
+        celebrityRegistry.refresh();
+
+        // then
+        assertThat(celebrityRegistry.isCelebrity(1L)).isTrue();
+        assertThat(celebrityRegistry.getPullAuthorIds()).containsExactlyInAnyOrder(1L, 2L);
+        verifyNoInteractions(timelineBackfillService);
+    }
+
+    @Test
+    void leftAuthorRedeliveredBeforeStopPulling() {
+        // given
+        when(followRepository.findUserIdsByFollowerCountAtLeast(anyLong())).thenReturn(List.of(1L, 2L));
+        celebrityRegistry.refresh();
+
+        // 재배달 중에는 새 게시물은 push 로 배달하면서 기존 게시물은 계속 병합
+        List<Set<Long>> pullDuringRedelivery = new ArrayList<>();
+        List<Boolean> celebrityDuringRedelivery = new ArrayList<>();
+        when(timelineBackfillService.redeliverRecentPosts(2L)).thenAnswer(invocation -> {
+            pullDuringRedelivery.add(celebrityRegistry.getPullAuthorIds());
+            celebrityDuringRedelivery.add(celebrityRegistry.isCelebrity(2L));
+            return 10;
+        });
+
+        // when - 2번 작성자가 기준 아래로
+        when(followRepository.findUserIdsByFollowerCountAtLeast(anyLong())).thenReturn(List.of(1L));
+        celebrityRegistry.refresh();
+
+        // then
+        verify(timelineBackfillService).redeliverRecentPosts(2L);
+        assertThat(pullDuringRedelivery.get(0)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(celebrityDuringRedelivery.get(0)).isFalse();
+        assertThat(celebrityRegistry.getPullAuthorIds()).containsExactly(1L);
+    }
+
+    @Test
+    void failedRedeliveryKeepsPullingAndRetries() {
+        // given
+        when(followRepository.findUserIdsByFollowerCountAtLeast(anyLong())).thenReturn(List.of(2L));
+        celebrityRegistry.refresh();
+        when(followRepository.findUserIdsByFollowerCountAtLeast(anyLong())).thenReturn(List.of());
+        when(timelineBackfillService.redeliverRecentPosts(2L)).thenThrow(new RuntimeException("DB 오류")).thenReturn(10);
+
+        // when - 첫 재배달 실패
+        celebrityRegistry.refresh();
+
+        // then - 재배달 전까지 계속 병합
+        assertThat(celebrityRegistry.getPullAuthorIds()).containsExactly(2L);
+
+        // when - 다음 갱신에서 재시도
+        celebrityRegistry.refresh();
+
+        // then
+        verify(timelineBackfillService, times(2)).redeliverRecentPosts(2L);
+        assertThat(celebrityRegistry.getPullAuthorIds()).isEmpty();
+    }
+}
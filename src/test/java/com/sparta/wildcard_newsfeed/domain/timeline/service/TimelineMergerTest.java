@@ -0,0 +1,50 @@
+package com.sparta.wildcard_newsfeed.domain.timeline.service;
+
+import com.sparta.wildcard_newsfeed.domain.timeline.dto.TimelineEntryDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimelineMergerTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    @Test
+    void mergeLatestFirst() {
+        // given
+        List<TimelineEntryDto> pushed = List.of(entry(10L, 10), entry(7L, 7), entry(3L, 3));
+        List<TimelineEntryDto> celebrity1 = List.of(entry(9L, 9), entry(4L, 4));
+        List<TimelineEntryDto> celebrity2 = List.of(entry(8L, 8), entry(2L, 2));
+
+        // when
+        List<TimelineEntryDto> merged = TimelineMerger.merge(List.of(pushed, celebrity1, celebrity2), 5);
+
+        // then
+        assertThat(merged).extracting(TimelineEntryDto::getPostId).containsExactly(10L, 9L, 8L, 7L, 4L);
+    }
+
+    @Test
+    void mergeSameCreatedAtByPostIdAndRemoveDuplicates() {
+        // given - 같은 시각이면 id 내림차순, push 와 pull 양쪽에 있는 게시물은 한 번만
+        List<TimelineEntryDto> pushed = List.of(entry(5L, 1), entry(1L, 0));
+        List<TimelineEntryDto> pulled = List.of(entry(6L, 1), entry(5L, 1));
+
+        // when
+        List<TimelineEntryDto> merged = TimelineMerger.merge(List.of(pushed, pulled), 10);
+
+        // then
+        assertThat(merged).extracting(TimelineEntryDto::getPostId).containsExactly(6L, 5L, 1L);
+    }
+
+    @Test
+    void mergeEmptySources() {
+        assertThat(TimelineMerger.merge(List.of(List.of(), List.of()), 10)).isEmpty();
+    }
+
+    private TimelineEntryDto entry(Long postId, int minutes) {
+        return new TimelineEntryDto(postId, now.plusMinutes(minutes));
+    }
+}
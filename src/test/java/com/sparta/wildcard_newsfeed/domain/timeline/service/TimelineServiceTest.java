@@ -0,0 +1,210 @@
+package com.sparta.wildcard_newsfeed.domain.timeline.service;
+
+import com.sparta.wildcard_newsfeed.config.JpaAuditing;
+import com.sparta.wildcard_newsfeed.domain.follow.service.FollowService;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostCreatedEvent;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostDeletedEvent;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostRequestDto;
+import com.sparta.wildcard_newsfeed.domain.post.dto.PostResponseDto;
+import com.sparta.wildcard_newsfeed.domain.post.entity.Post;
+import com.sparta.wildcard_newsfeed.domain.timeline.dto.TimelineResponseDto;
+import com.sparta.wildcard_newsfeed.domain.user.entity.User;
+import com.sparta.wildcard_newsfeed.security.AuthenticationUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 팔로우/언팔로우, 새 게시물 배달 후 홈 타임라인에 보이는 게시물 검증
+ * (DataJpaTest 에서는 @Async, @TransactionalEventListener 가 동작하지 않으므로 배달은 직접 호출)
+ */
+@DataJpaTest
+@ActiveProfiles("h2")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaAuditing.class, SimpleMeterRegistry.class, TimelineService.class, TimelineFanoutService.class,
+        TimelineBackfillService.class, CelebrityRegistry.class, FollowService.class})
+class TimelineServiceTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TimelineService timelineService;
+
+    @Autowired
+    private TimelineFanoutService timelineFanoutService;
+
+    @Autowired
+    private FollowService followService;
+
+    @Autowired
+    private CelebrityRegistry celebrityRegistry;
+
+    private User author;
+    private User other;
+    private User reader;
+
+    @BeforeEach
+    void setUp() {
+        author = new User("authorId", "currentPWD999!", "author@gmail.com");
+        other = new User("otherId", "currentPWD999!", "other@gmail.com");
+        reader = new User("readerId", "currentPWD999!", "reader@gmail.com");
+        em.persist(author);
+        em.persist(other);
+        em.persist(reader);
+        em.flush();
+        // 컨텍스트를 공유하는 다른 테스트에서 바꾼 기준 초기화
+        ReflectionTestUtils.setField(celebrityRegistry, "threshold", 10000L);
+        celebrityRegistry.refresh();
+    }
+
+    @Test
+    void newPostDelivered() {
+        // given
+        followService.follow(author.getId(), AuthenticationUser.of(reader));
+
+        // when
+        publish(author, "새 글");
+
+        // then
+        assertThat(titles(timelineService.getHomeTimeline(AuthenticationUser.of(reader), null, 10))).containsExactly("새 글");
+    }
+
+    @Test
+    void followBackfillsRecentPosts() {
+        // given - 팔로우 이전에 작성된 게시물
+        publish(author, "글1");
+        publish(author, "글2");
+
+        // when
+        followService.follow(author.getId(), AuthenticationUser.of(reader));
+
+        // then
+        assertThat(titles(timelineService.getHomeTimeline(AuthenticationUser.of(reader), null, 10)))
+                .containsExactly("글2", "글1");
+    }
+
+    @Test
+    void unfollowRemovesAuthorPosts() {
+        // given
+        followService.follow(author.getId(), AuthenticationUser.of(reader));
+        followService.follow(other.getId(), AuthenticationUser.of(reader));
+        publish(author, "작성자 글");
+        publish(other, "다른 글");
+        publish(reader, "내 글");
+
+        // when
+        followService.unfollow(author.getId(), AuthenticationUser.of(reader));
+
+        // then
+        assertThat(titles(timelineService.getHomeTimeline(AuthenticationUser.of(reader), null, 10)))
+                .containsExactly("내 글", "다른 글");
+    }
+
+    @Test
+    void paging() {
+        // given
+        followService.follow(author.getId(), AuthenticationUser.of(reader));
+        for (int i = 0; i < 5; i++) {
+            publish(author, "글" + i);
+        }
+
+        // when
+        TimelineResponseDto first = timelineService.getHomeTimeline(AuthenticationUser.of(reader), null, 3);
+        TimelineResponseDto second = timelineService.getHomeTimeline(AuthenticationUser.of(reader), first.getNextCursor(), 3);
+
+        // then
+        assertThat(titles(first)).containsExactly("글4", "글3", "글2");
+        assertThat(first.isHasNext()).isTrue();
+        assertThat(titles(second)).containsExactly("글1", "글0");
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    @Test
+    void celebrityPostsPulled() {
+        // given - 팔로워 1명 이상이면 pull
+        followService.follow(author.getId(), AuthenticationUser.of(reader));
+        ReflectionTestUtils.setField(celebrityRegistry, "threshold", 1L);
+        celebrityRegistry.refresh();
+
+        // when
+        publish(author, "인기 작성자 글");
+
+        // then - 팔로워 타임라인에는 배달되지 않았지만 조회 시 병합
+        assertThat(inboxCount(reader)).isZero();
+        assertThat(titles(timelineService.getHomeTimeline(AuthenticationUser.of(reader), null, 10)))
+                .containsExactly("인기 작성자 글");
+    }
+
+    @Test
+    void celebrityLeavingKeepsPulledPosts() {
+        // given - pull 로만 보이던 게시물
+        followService.follow(author.getId(), AuthenticationUser.of(reader));
+        ReflectionTestUtils.setField(celebrityRegistry, "threshold", 1L);
+        celebrityRegistry.refresh();
+        publish(author, "pull 글");
+
+        // when - 기준 아래로 내려감
+        ReflectionTestUtils.setField(celebrityRegistry, "threshold", 100L);
+        celebrityRegistry.refresh();
+        publish(author, "push 글");
+
+        // then - 재배달되어 팔로워 타임라인에 남음
+        assertThat(celebrityRegistry.getPullAuthorIds()).isEmpty();
+        assertThat(inboxCount(reader)).isEqualTo(2);
+        assertThat(titles(timelineService.getHomeTimeline(AuthenticationUser.of(reader), null, 10)))
+                .containsExactly("push 글", "pull 글");
+    }
+
+    @Test
+    void deletedPostRemoved() {
+        // given
+        followService.follow(author.getId(), AuthenticationUser.of(reader));
+        publish(author, "남은 글");
+        Post deleted = publish(author, "삭제된 글");
+        jdbcTemplate.update("delete from post where id = ?", deleted.getId());
+        em.clear();
+
+        // when - 배달 정리 전에도 삭제된 게시물은 빠지고 size 는 실제 게시물 수
+        TimelineResponseDto before = timelineService.getHomeTimeline(AuthenticationUser.of(reader), null, 10);
+        timelineFanoutService.onPostDeleted(PostDeletedEvent.of(deleted.getId()));
+
+        // then
+        assertThat(titles(before)).containsExactly("남은 글");
+        assertThat(before.getSize()).isEqualTo(1);
+        assertThat(inboxCount(reader)).isEqualTo(1);
+        assertThat(inboxCount(author)).isEqualTo(1);
+    }
+
+    private long inboxCount(User user) {
+        return jdbcTemplate.queryForObject("select count(*) from timeline_inbox where user_id = ?", Long.class, user.getId());
+    }
+
+    // 게시물 저장 후 커밋 시 실행되는 배달을 직접 호출
+    private Post publish(User writer, String title) {
+        Post post = new Post(new PostRequestDto(title, "내용", null), writer);
+        em.persist(post);
+        em.flush();
+        timelineFanoutService.fanout(PostCreatedEvent.of(post.getId(), writer.getId(), post.getCreatedAt()));
+        return post;
+    }
+
+    private List<String> titles(TimelineResponseDto timeline) {
+        return timeline.getContent().stream().map(PostResponseDto::getTitle).toList();
+    }
+}
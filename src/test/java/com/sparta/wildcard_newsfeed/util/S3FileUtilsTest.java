@@ -0,0 +1,101 @@
+package com.sparta.wildcard_newsfeed.util;
+
+import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import com.sparta.wildcard_newsfeed.config.S3Config;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class S3FileUtilsTest {
+
+    private static final int PART_SIZE = 1024 * 1024;
+
+    private final AmazonS3Client amazonS3Client = mock(AmazonS3Client.class);
+    private S3FileUtils s3FileUtils;
+    private final List<Integer> uploadedPartSizes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        S3Config s3Config = mock(S3Config.class);
+        when(s3Config.amazonS3Client()).thenReturn(amazonS3Client);
+        s3FileUtils = new S3FileUtils(s3Config);
+        ReflectionTestUtils.setField(s3FileUtils, "bucket", "bucket");
+        ReflectionTestUtils.setField(s3FileUtils, "partSizeMb", 1);
+
+        when(amazonS3Client.getUrl(anyString(), anyString())).thenReturn(new URL("https://bucket.s3.amazonaws.com/file.mp4"));
+        InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+        initiated.setUploadId("upload-id");
+        when(amazonS3Client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiated);
+        // part 내용은 업로드 시점에 읽어야 함 (버퍼를 재사용하므로)
+        when(amazonS3Client.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            uploadedPartSizes.add(request.getInputStream().readAllBytes().length);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+    }
+
+    @Test
+    void smallFileSinglePut() throws Exception {
+        // when
+        String url = s3FileUtils.uploadStream("file.png", new ByteArrayInputStream(new byte[1000]), 1000, "image/png");
+
+        // then - 멀티파트 없이 한 번에
+        ArgumentCaptor<PutObjectRequest> captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(amazonS3Client).putObject(captor.capture());
+        assertThat(captor.getValue().getMetadata().getContentLength()).isEqualTo(1000);
+        verify(amazonS3Client, never()).initiateMultipartUpload(any());
+        assertThat(url).isEqualTo("https://bucket.s3.amazonaws.com/file.mp4");
+    }
+
+    @Test
+    void largeFileMultipart() throws Exception {
+        // given - part 3개 반 크기
+        int size = PART_SIZE * 3 + PART_SIZE / 2;
+
+        // when
+        s3FileUtils.uploadStream("file.mp4", new ByteArrayInputStream(new byte[size]), size, "video/mp4");
+
+        // then
+        assertThat(uploadedPartSizes).containsExactly(PART_SIZE, PART_SIZE, PART_SIZE, PART_SIZE / 2);
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(amazonS3Client).completeMultipartUpload(captor.capture());
+        assertThat(captor.getValue().getPartETags()).extracting(PartETag::getPartNumber).containsExactly(1, 2, 3, 4);
+        verify(amazonS3Client, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    void abortOnTruncatedStream() {
+        // given - 선언한 크기보다 스트림이 짧음
+        int size = PART_SIZE * 2;
+
+        // when & then - 남은 part 를 정리하도록 업로드 취소
+        assertThatThrownBy(() -> s3FileUtils.uploadStream("file.mp4", new ByteArrayInputStream(new byte[PART_SIZE + 10]), size, "video/mp4"))
+                .isInstanceOf(EOFException.class);
+        verify(amazonS3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(amazonS3Client, never()).completeMultipartUpload(any());
+    }
+}